@@ -0,0 +1,498 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The results of validating the fields of one <code>Form</code>, recorded
+ * in bit sets indexed by the ordinal of each field and validator action
+ * instead of in a <code>ValidatorResult</code> per field.
+ * <p>
+ * The ordinals are assigned from the execution plans of the form's fields,
+ * so recording the result of a rule sets a bit and allocates nothing.  Only
+ * values returned by validation methods other than a <code>Boolean</code>,
+ * such as the converted value of a date, are kept, in an array that is
+ * created for the first one.  {@link #merge(ValidatorResults)} of results of
+ * the same form is a bitwise OR.  The results of fields without an
+ * execution plan, for example because they depend on an action that does
+ * not exist, are kept in the map of the superclass.
+ * </p>
+ * <p>
+ * {@link #getValidatorResult(String)} creates a new
+ * <code>ValidatorResult</code> from the bits each time it is called, so
+ * changes made to it do not change these results.  These results are
+ * serialized as a <code>ValidatorResults</code>.
+ * </p>
+ * <p>
+ * A <code>Validator</code> returns these results when
+ * {@link Validator#setCompactResults(boolean)} is set.
+ * </p>
+ *
+ * @since 1.9.1
+ */
+public class CompactValidatorResults extends ValidatorResults {
+
+    /**
+     * The ordinals of the validator actions of the fields of a form.
+     * Instances are immutable.
+     */
+    static final class Layout {
+
+        /**
+         * Assigns ordinals to the validator actions the fields of a form run
+         * with the given actions.  Fields without an execution plan and
+         * fields sharing their key with another field are left out.
+         * @param fields The fields of the form.
+         * @param actions A Map of validator names to ValidatorAction objects.
+         * @return The layout.
+         */
+        static Layout of(final List<Field> fields, final Map<String, ValidatorAction> actions) {
+            final Map<String, Slot> slots = new HashMap<>();
+            final Set<String> duplicates = new HashSet<>();
+            int size = 0;
+            for (final Field field : fields) {
+                final ValidatorAction[] rules = field.getPlannedActions(actions);
+                if (rules != null && !duplicates.contains(field.getKey())) {
+                    final Slot slot = new Slot(field, size, rules);
+                    if (slots.put(field.getKey(), slot) == null) {
+                        size += rules.length;
+                    } else {
+                        slots.remove(field.getKey());
+                        duplicates.add(field.getKey());
+                    }
+                }
+            }
+            return new Layout(slots, size, actions);
+        }
+
+        /**
+         * The slot of each field by key.
+         */
+        private final Map<String, Slot> slots;
+
+        /**
+         * The number of ordinals.
+         */
+        private final int size;
+
+        /**
+         * The Map of validator names to ValidatorAction objects the layout was
+         * built for.
+         */
+        private final Map<String, ValidatorAction> actions;
+
+        private Layout(final Map<String, Slot> slots, final int size, final Map<String, ValidatorAction> actions) {
+            this.slots = slots;
+            this.size = size;
+            this.actions = actions;
+        }
+
+        /**
+         * Tests whether this layout matches the current execution plans for
+         * the given actions.
+         * @param actions A Map of validator names to ValidatorAction objects.
+         * @return true if the layout can be used.
+         */
+        boolean isFor(final Map<String, ValidatorAction> actions) {
+            if (this.actions != actions) {
+                return false;
+            }
+            for (final Slot slot : slots.values()) {
+                if (slot.field.getPlannedActions(actions) != slot.actions) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The ordinals of the validator actions of one field.
+     */
+    private static final class Slot {
+
+        private final Field field;
+
+        private final String key;
+
+        /**
+         * The ordinal of the first action.
+         */
+        private final int offset;
+
+        /**
+         * The actions of the field's execution plan in the order of their
+         * ordinals.
+         */
+        private final ValidatorAction[] actions;
+
+        private Slot(final Field field, final int offset, final ValidatorAction[] actions) {
+            this.field = field;
+            this.key = field.getKey();
+            this.offset = offset;
+            this.actions = actions;
+        }
+
+        private int end() {
+            return offset + actions.length;
+        }
+
+        /**
+         * Gets the ordinal of the named action.
+         * @return The ordinal, or -1 if the field does not run the action.
+         */
+        private int ordinal(final String validatorName) {
+            for (int i = 0; i < actions.length; i++) {
+                if (actions[i].getName().equals(validatorName)) {
+                    return offset + i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final long serialVersionUID = 2351786498823046651L;
+
+    private final transient Layout layout;
+
+    /**
+     * The rules with a result.
+     */
+    private final transient BitSet executed;
+
+    /**
+     * The rules that passed.
+     */
+    private final transient BitSet valid;
+
+    /**
+     * The rules whose validation method returned the <code>Boolean</code> of
+     * their outcome.
+     */
+    private final transient BitSet booleans;
+
+    /**
+     * The other values returned by validation methods, {@code null} until
+     * there is one.
+     */
+    private transient Object[] values;
+
+    /**
+     * Constructs empty results for a form.
+     * @param layout The ordinals of the validator actions of the form.
+     */
+    CompactValidatorResults(final Layout layout) {
+        this.layout = layout;
+        this.executed = new BitSet(layout.size);
+        this.valid = new BitSet(layout.size);
+        this.booleans = new BitSet(layout.size);
+    }
+
+    /**
+     * Add a the result of a validator action.
+     *
+     * @param field The field validated.
+     * @param validatorName The name of the validator.
+     * @param result The result of the validation.
+     * @param value The value returned by the validator.
+     */
+    @Override
+    public void add(final Field field, final String validatorName, final boolean result, final Object value) {
+        final String key = field.getKey();
+        if (!this.hResults.containsKey(key)) {
+            final Slot slot = layout.slots.get(key);
+            final int ordinal = slot == null ? -1 : slot.ordinal(validatorName);
+            if (ordinal >= 0) {
+                this.set(ordinal, result, value);
+                return;
+            }
+            if (slot != null) {
+                // keep all of the field's results in the map
+                final ValidatorResult validatorResult = this.toValidatorResult(slot);
+                this.clear(slot);
+                if (validatorResult != null) {
+                    this.hResults.put(key, validatorResult);
+                }
+            }
+        }
+        super.add(field, validatorName, result, value);
+    }
+
+    /**
+     * Clear all results recorded by this object.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        this.executed.clear();
+        this.valid.clear();
+        this.booleans.clear();
+        this.values = null;
+    }
+
+    /**
+     * Removes the results of a field recorded in the bit sets.
+     */
+    private void clear(final Slot slot) {
+        this.executed.clear(slot.offset, slot.end());
+        this.valid.clear(slot.offset, slot.end());
+        this.booleans.clear(slot.offset, slot.end());
+        if (this.values != null) {
+            Arrays.fill(this.values, slot.offset, slot.end(), null);
+        }
+    }
+
+    @Override
+    void addTo(final Map<String, ValidatorResult> results) {
+        super.addTo(results);
+        for (final Slot slot : layout.slots.values()) {
+            final ValidatorResult validatorResult = this.toValidatorResult(slot);
+            if (validatorResult != null) {
+                results.put(slot.key, validatorResult);
+            }
+        }
+    }
+
+    @Override
+    boolean containsKey(final String key) {
+        if (super.containsKey(key)) {
+            return true;
+        }
+        final Slot slot = layout.slots.get(key);
+        return slot != null && this.hasResults(slot);
+    }
+
+    @Override
+    ValidatorResults createEmpty() {
+        return new CompactValidatorResults(layout);
+    }
+
+    /**
+     * Gets the set of property names for which at least one message has
+     * been recorded.
+     * @return An unmodifiable Set of the property names.
+     */
+    @Override
+    public Set<String> getPropertyNames() {
+        final Set<String> names = new HashSet<>(this.hResults.keySet());
+        for (final Slot slot : layout.slots.values()) {
+            if (this.hasResults(slot)) {
+                names.add(slot.key);
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Gets a <code>Map</code> of any <code>Object</code>s returned from
+     * validation routines.
+     *
+     * @return Map of objections returned by validators.
+     */
+    @Override
+    public Map<String, Object> getResultValueMap() {
+        final Map<String, Object> results = super.getResultValueMap();
+        if (this.values != null) {
+            for (final Slot slot : layout.slots.values()) {
+                for (int ordinal = slot.offset; ordinal < slot.end(); ordinal++) {
+                    if (this.values[ordinal] != null && !(this.values[ordinal] instanceof Boolean)) {
+                        results.put(slot.key, this.values[ordinal]);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Gets the value returned by the validation method of a rule.
+     */
+    private Object getValue(final int ordinal) {
+        if (this.booleans.get(ordinal)) {
+            return Boolean.valueOf(this.valid.get(ordinal));
+        }
+        return this.values == null ? null : this.values[ordinal];
+    }
+
+    /**
+     * Gets the <code>ValidatorResult</code> associated
+     * with the key passed in.  The key the <code>ValidatorResult</code>
+     * is stored under is the <code>Field</code>'s getKey method.
+     * The result of a field recorded in the bit sets is a new copy.
+     *
+     * @param key The key generated from <code>Field</code> (this is often just
+     * the field name).
+     *
+     * @return The result of a specified key.
+     */
+    @Override
+    public ValidatorResult getValidatorResult(final String key) {
+        final ValidatorResult validatorResult = super.getValidatorResult(key);
+        if (validatorResult != null) {
+            return validatorResult;
+        }
+        final Slot slot = layout.slots.get(key);
+        return slot == null ? null : this.toValidatorResult(slot);
+    }
+
+    /**
+     * Tests whether a result of the field is recorded in the bit sets.
+     */
+    private boolean hasResults(final Slot slot) {
+        final int ordinal = this.executed.nextSetBit(slot.offset);
+        return ordinal >= 0 && ordinal < slot.end();
+    }
+
+    /**
+     * Gets {@code true} if there are no messages recorded
+     * in this collection, or {@code false} otherwise.
+     *
+     * @return Whether these results are empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return super.isEmpty() && this.executed.isEmpty();
+    }
+
+    /**
+     * Merge another ValidatorResults into mine.  The results of a field
+     * replace the results recorded for it before.
+     *
+     * @param results ValidatorResults to merge.
+     */
+    @Override
+    public void merge(final ValidatorResults results) {
+        if (results instanceof CompactValidatorResults && ((CompactValidatorResults) results).layout == layout) {
+            final CompactValidatorResults other = (CompactValidatorResults) results;
+            for (final Slot slot : layout.slots.values()) {
+                if (other.hasResults(slot)) {
+                    this.remove(slot.key);
+                }
+            }
+            for (final String key : other.hResults.keySet()) {
+                this.remove(key);
+            }
+            this.executed.or(other.executed);
+            this.valid.or(other.valid);
+            this.booleans.or(other.booleans);
+            if (other.values != null) {
+                for (int ordinal = 0; ordinal < other.values.length; ordinal++) {
+                    if (other.values[ordinal] != null) {
+                        this.setValue(ordinal, other.values[ordinal]);
+                    }
+                }
+            }
+            this.hResults.putAll(other.hResults);
+            return;
+        }
+        for (final Map.Entry<String, ValidatorResult> entry : results.hResults.entrySet()) {
+            this.remove(entry.getKey());
+            final Slot slot = layout.slots.get(entry.getKey());
+            if (slot != null && this.set(slot, entry.getValue())) {
+                continue;
+            }
+            this.hResults.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Removes the results of a field.
+     */
+    private void remove(final String key) {
+        this.hResults.remove(key);
+        final Slot slot = layout.slots.get(key);
+        if (slot != null) {
+            this.clear(slot);
+        }
+    }
+
+    /**
+     * Records the result of a rule.
+     */
+    private void set(final int ordinal, final boolean result, final Object value) {
+        this.executed.set(ordinal);
+        this.valid.set(ordinal, result);
+        final boolean isBoolean = value instanceof Boolean && ((Boolean) value).booleanValue() == result;
+        this.booleans.set(ordinal, isBoolean);
+        this.setValue(ordinal, isBoolean ? null : value);
+    }
+
+    /**
+     * Records the results of a field, unless one of its actions has no
+     * ordinal.
+     * @return true if the results were recorded.
+     */
+    private boolean set(final Slot slot, final ValidatorResult validatorResult) {
+        for (final Iterator<String> i = validatorResult.getActions(); i.hasNext();) {
+            if (slot.ordinal(i.next()) < 0) {
+                return false;
+            }
+        }
+        for (final Iterator<String> i = validatorResult.getActions(); i.hasNext();) {
+            final String validatorName = i.next();
+            this.set(slot.ordinal(validatorName), validatorResult.isValid(validatorName), validatorResult.getResult(validatorName));
+        }
+        return true;
+    }
+
+    private void setValue(final int ordinal, final Object value) {
+        if (value != null) {
+            if (this.values == null) {
+                this.values = new Object[layout.size];
+            }
+            this.values[ordinal] = value;
+        } else if (this.values != null) {
+            this.values[ordinal] = null;
+        }
+    }
+
+    /**
+     * Creates the <code>ValidatorResult</code> of a field from the bit sets.
+     * @return The result, or {@code null} if none is recorded.
+     */
+    private ValidatorResult toValidatorResult(final Slot slot) {
+        if (!this.hasResults(slot)) {
+            return null;
+        }
+        final ValidatorResult validatorResult = new ValidatorResult(slot.field);
+        for (int ordinal = slot.offset; ordinal < slot.end(); ordinal++) {
+            if (this.executed.get(ordinal)) {
+                validatorResult.add(slot.actions[ordinal - slot.offset].getName(), this.valid.get(ordinal), this.getValue(ordinal));
+            }
+        }
+        return validatorResult;
+    }
+
+    /**
+     * Serializes these results as a <code>ValidatorResults</code>.
+     * @return The results to serialize instead.
+     */
+    private Object writeReplace() {
+        final ValidatorResults results = new ValidatorResults();
+        results.merge(this);
+        return results;
+    }
+}
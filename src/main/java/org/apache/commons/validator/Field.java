@@ -22,10 +22,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.collections.FastHashMap; // DEPRECATED
@@ -46,6 +51,38 @@ import org.apache.commons.validator.util.ValidatorUtils;
 // TODO mutable non-private fields
 public class Field implements Cloneable, Serializable {
 
+    /**
+     * The validator actions of a field resolved against a <code>Map</code>
+     * of actions, including the actions they depend on, in the order they
+     * are executed.
+     */
+    private static final class ValidationPlan {
+
+        /**
+         * The Map of validator names to ValidatorAction objects the plan was
+         * resolved against.
+         */
+        private final Map<String, ValidatorAction> actions;
+
+        /**
+         * The actions to execute, each one after the actions it depends on.
+         */
+        private final ValidatorAction[] rules;
+
+        /**
+         * The sum of the dependency changes of the rules when the plan was
+         * resolved.  The changes only increase, so the sum changes whenever
+         * the dependencies of a rule change.
+         */
+        private final int changes;
+
+        private ValidationPlan(final Map<String, ValidatorAction> actions, final ValidatorAction[] rules, final int changes) {
+            this.actions = actions;
+            this.rules = rules;
+            this.changes = changes;
+        }
+    }
+
     private static final long serialVersionUID = -8502647722530192185L;
 
     /**
@@ -118,12 +155,17 @@ public class Field implements Cloneable, Serializable {
     protected int fieldOrder;
 
     /**
-     * Internal representation of this.depends String as a List.  This List
-     * gets updated whenever setDepends() gets called.  This List is
-     * synchronized so a call to setDepends() (which clears the List) won't
-     * interfere with a call to isDependency().
+     * Internal representation of this.depends String as an unmodifiable
+     * List.  This List is replaced whenever setDepends() gets called, so it
+     * can be read without locking while validations are running.
      */
-    private final List<String> dependencyList = Collections.synchronizedList(new ArrayList<>());
+    private volatile List<String> dependencyList = Collections.emptyList();
+
+    /**
+     * The execution plan resolved by {@link #compile(Map)}, or {@code null}
+     * if the validator actions are looked up by name during validation.
+     */
+    private transient volatile ValidationPlan plan;
 
     /**
      * @deprecated Subclasses should use getVarMap() instead.
@@ -233,6 +275,79 @@ public class Field implements Cloneable, Serializable {
         return field;
     }
 
+    /**
+     * Resolves the validator actions in the depends clause, and the actions
+     * they depend on, into the order they are executed in.  Validation with
+     * the same <code>Map</code> of actions then runs them without looking
+     * them up by name.  If an action is missing or the dependencies are
+     * circular the actions are looked up by name during validation, which
+     * reports the problem.  The plan is resolved again when it is used after
+     * the dependencies of one of its actions changed.  Actions added to the
+     * <code>ValidatorResources</code> after it was processed are resolved by
+     * {@link ValidatorResources#addValidatorAction(ValidatorAction)}.
+     * @param actions A Map of validator names to ValidatorAction objects.
+     */
+    void compile(final Map<String, ValidatorAction> actions) {
+        final List<ValidatorAction> rules = new ArrayList<>();
+        final Set<String> resolved = new HashSet<>();
+        int changes = 0;
+        for (final String depend : this.dependencyList) {
+            if (!compileRule(depend, actions, rules, resolved, new HashSet<>())) {
+                this.plan = null;
+                return;
+            }
+        }
+        final ValidatorAction[] planned = rules.toArray(new ValidatorAction[0]);
+        for (final ValidatorAction action : planned) {
+            changes += action.getDependsChanges();
+        }
+        this.plan = new ValidationPlan(actions, planned, changes);
+    }
+
+    /**
+     * Adds the named validator action to the execution plan after the
+     * actions it depends on.
+     * @return false if an action is missing or the dependencies are circular.
+     */
+    private boolean compileRule(final String name, final Map<String, ValidatorAction> actions, final List<ValidatorAction> rules,
+            final Set<String> resolved, final Set<String> path) {
+        if (resolved.contains(name)) {
+            return true;
+        }
+        final ValidatorAction action = actions.get(name);
+        if (action == null || !path.add(name)) {
+            return false;
+        }
+        for (final String depend : action.getDependencyList()) {
+            if (!compileRule(depend, actions, rules, resolved, path)) {
+                return false;
+            }
+        }
+        path.remove(name);
+        resolved.add(name);
+        rules.add(action);
+        return true;
+    }
+
+    /**
+     * Creates a copy of this field representing the element at the given
+     * position of its indexed property.  Unlike {@link #clone()} the copy
+     * shares this field's arguments, messages and variables, which must not
+     * be modified through it.
+     * @param pos The index of the element in the indexed property.
+     * @return A field whose key refers to the element.
+     */
+    private Field createIndexedField(final int pos) {
+        final Field field;
+        try {
+            field = (Field) super.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new UnsupportedOperationException(e.toString(), e);
+        }
+        field.key = ValidatorUtils.replace(this.getKey(), TOKEN_INDEXED, "[" + pos + "]");
+        return field;
+    }
+
     /**
      * Calculate the position of the Arg
      */
@@ -360,7 +475,7 @@ public class Field implements Cloneable, Serializable {
      * @return A list of the Field's dependancies.
      */
     public List<String> getDependencyList() {
-        return Collections.unmodifiableList(this.dependencyList);
+        return this.dependencyList;
     }
 
     /**
@@ -418,6 +533,9 @@ public class Field implements Cloneable, Serializable {
             throw new ValidatorException(e.getMessage());
         }
 
+        if (indexProp == null) {
+            return new Object[0];
+        }
         if (indexProp instanceof Collection) {
             return ((Collection<?>) indexProp).toArray();
 
@@ -430,36 +548,6 @@ public class Field implements Cloneable, Serializable {
 
     }
 
-    /**
-     * Returns the size of an indexed property from the object we're validating.
-     *
-     * @param bean The bean to extract the indexed values from.
-     * @throws ValidatorException If there's an error looking up the property
-     * or, the property found is not indexed.
-     */
-    private int getIndexedPropertySize(final Object bean) throws ValidatorException {
-        Object indexProp = null;
-
-        try {
-            indexProp = PropertyUtils.getProperty(bean, this.getIndexedListProperty());
-
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new ValidatorException(e.getMessage());
-        }
-
-        if (indexProp == null) {
-            return 0;
-        }
-        if (indexProp instanceof Collection) {
-            return ((Collection<?>) indexProp).size();
-        }
-        if (indexProp.getClass().isArray()) {
-            return ((Object[]) indexProp).length;
-        }
-        throw new ValidatorException(this.getKey() + " is not indexed");
-
-    }
-
     /**
      * Gets a unique key based on the property and indexedProperty fields.
      * @return a unique key for the field.
@@ -521,6 +609,44 @@ public class Field implements Cloneable, Serializable {
         return this.page;
     }
 
+    /**
+     * Gets the execution plan for the given actions, resolving it again if
+     * the dependencies of one of its actions changed since it was resolved.
+     * @param actions A Map of validator names to ValidatorAction objects.
+     * @return The plan, or {@code null} if the actions have to be looked up
+     * by name.
+     */
+    private ValidationPlan getPlan(final Map<String, ValidatorAction> actions) {
+        ValidationPlan plan = this.plan;
+        if (plan == null || plan.actions != actions) {
+            return null;
+        }
+        int changes = 0;
+        for (final ValidatorAction action : plan.rules) {
+            changes += action.getDependsChanges();
+        }
+        if (plan.changes != changes) {
+            // plans are immutable, so threads resolving the plan at the same time publish equal plans
+            this.compile(actions);
+            plan = this.plan;
+        }
+        return plan;
+    }
+
+    /**
+     * Gets the validator actions this field runs with the given actions, in
+     * the order they are executed.  A new array is returned whenever the
+     * execution plan was resolved again, so the arrays can be compared by
+     * identity.  The array must not be modified.
+     * @param actions A Map of validator names to ValidatorAction objects.
+     * @return The actions, or {@code null} if the actions are looked up by
+     * name during validation.
+     */
+    ValidatorAction[] getPlannedActions(final Map<String, ValidatorAction> actions) {
+        final ValidationPlan plan = this.getPlan(actions);
+        return plan == null ? null : plan.rules;
+    }
+
     /**
      * Gets the property name of the field.
      * @return The field's property name.
@@ -711,7 +837,8 @@ public class Field implements Cloneable, Serializable {
      * @param va Run dependent validators for this action.
      * @param results
      * @param actions
-     * @param pos
+     * @param indexedBean
+     * @param indexedField
      * @return true if all of the dependent validations passed.
      * @throws ValidatorException If there's an error running a validator
      */
@@ -720,7 +847,8 @@ public class Field implements Cloneable, Serializable {
         final ValidatorResults results,
         final Map<String, ValidatorAction> actions,
         final Map<String, Object> params,
-        final int pos)
+        final Object indexedBean,
+        final Field indexedField)
         throws ValidatorException {
 
         final List<String> dependentValidators = va.getDependencyList();
@@ -735,7 +863,7 @@ public class Field implements Cloneable, Serializable {
                 this.handleMissingAction(depend);
             }
 
-            if (!this.validateForRule(action, results, actions, params, pos)) {
+            if (!this.validateForRule(action, results, actions, params, indexedBean, indexedField)) {
                 return false;
             }
         }
@@ -760,17 +888,20 @@ public class Field implements Cloneable, Serializable {
      */
     public void setDepends(final String depends) {
         this.depends = depends;
+        this.plan = null;
 
-        this.dependencyList.clear();
+        final List<String> dependencyList = new ArrayList<>();
 
         final StringTokenizer st = new StringTokenizer(depends, ",");
         while (st.hasMoreTokens()) {
             final String depend = st.nextToken().trim();
 
             if (depend != null && !depend.isEmpty()) {
-                this.dependencyList.add(depend);
+                dependencyList.add(depend);
             }
         }
+
+        this.dependencyList = Collections.unmodifiableList(dependencyList);
     }
 
     /**
@@ -866,38 +997,189 @@ public class Field implements Cloneable, Serializable {
     public ValidatorResults validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions)
             throws ValidatorException {
 
+        final ValidatorResults allResults = new ValidatorResults();
+        this.validate(params, actions, allResults);
+        return allResults;
+    }
+
+    /**
+     * Run the configured validations on this field, adding the results to
+     * the given <code>ValidatorResults</code>.  As when merging the results
+     * of a field, they replace any results recorded for the same key.  The
+     * results of each element of an indexed property, and of a field whose
+     * key already has results, are collected separately, as the results for
+     * an element must not hide those of the previous element.
+     * @param params A Map of parameter class names to parameter values to pass
+     * into validation methods.
+     * @param actions A Map of validator names to ValidatorAction objects.
+     * @param allResults The results to add this field's results to.
+     * @throws ValidatorException If an error occurs during validation.
+     */
+    void validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions, final ValidatorResults allResults)
+            throws ValidatorException {
+
         if (this.getDepends() == null) {
-            return new ValidatorResults();
+            return;
         }
 
-        final ValidatorResults allResults = new ValidatorResults();
+        final ValidationPlan plan = this.getPlan(actions);
+        if (!this.isIndexed()) {
+            if (!allResults.containsKey(this.getKey())) {
+                validateElement(allResults, plan, actions, params, null, 0);
+                return;
+            }
+            // the results replace those of another field with the same key
+            final ValidatorResults results = allResults.createEmpty();
+            validateElement(results, plan, actions, params, null, 0);
+            allResults.merge(results);
+            return;
+        }
+
+        final Object[] indexedBeans = this.getIndexedProperty(params.get(Validator.BEAN_PARAM));
+        final ValidatorResults results = allResults.createEmpty();
+
+        for (int fieldNumber = 0; fieldNumber < indexedBeans.length; fieldNumber++) {
+
+            final boolean good = validateElement(results, plan, actions, params, indexedBeans, fieldNumber);
+
+            if (!results.isEmpty()) {
+                allResults.merge(results);
+                results.clear();
+            }
+            if (!good) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Run the configured validations on this field with the given
+     * <code>Executor</code>, validating each element of an indexed property
+     * in a separate task.  The results are combined as {@link #validate(Map, Map)}
+     * does: in element order, up to the first element that fails or throws.
+     * @param params A Map of parameter class names to parameter values to pass
+     * into validation methods.  Each task validates with its own copy, holding
+     * the results of that task as the <code>ValidatorResults</code> parameter.
+     * @param actions A Map of validator names to ValidatorAction objects.
+     * @param executor The Executor to run the validations on.
+     * @return The results of this field, available once all of its tasks have
+     * completed.  A <code>ValidatorException</code> thrown by a task completes
+     * it exceptionally.
+     * @throws ValidatorException If the indexed property cannot be read.
+     */
+    CompletableFuture<ValidatorResults> validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions,
+            final Executor executor) throws ValidatorException {
+
+        if (this.getDepends() == null) {
+            return CompletableFuture.completedFuture(new ValidatorResults());
+        }
 
         final Object bean = params.get(Validator.BEAN_PARAM);
-        final int numberOfFieldsToValidate = this.isIndexed() ? this.getIndexedPropertySize(bean) : 1;
+        final Object[] indexedBeans = this.isIndexed() ? this.getIndexedProperty(bean) : null;
+        final int numberOfFieldsToValidate = indexedBeans == null ? 1 : indexedBeans.length;
+        final ValidationPlan plan = this.getPlan(actions);
 
+        final ValidatorResults[] results = new ValidatorResults[numberOfFieldsToValidate];
+        final boolean[] good = new boolean[numberOfFieldsToValidate];
+        final CompletableFuture<?>[] tasks = new CompletableFuture<?>[numberOfFieldsToValidate];
         for (int fieldNumber = 0; fieldNumber < numberOfFieldsToValidate; fieldNumber++) {
+            final int pos = fieldNumber;
+            results[pos] = new ValidatorResults();
+            final Map<String, Object> taskParams = new HashMap<>(params);
+            taskParams.put(Validator.VALIDATOR_RESULTS_PARAM, results[pos]);
+            tasks[pos] = CompletableFuture.runAsync(() -> {
+                try {
+                    good[pos] = validateElement(results[pos], plan, actions, taskParams, indexedBeans, pos);
+                } catch (final ValidatorException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        }
 
-            final ValidatorResults results = new ValidatorResults();
-            synchronized (dependencyList) {
-                for (final String depend : this.dependencyList) {
+        return CompletableFuture.allOf(tasks).handle((ignored, failure) -> {
+            // an element after the first one that fails would not have been validated, so neither are its exceptions thrown
+            final ValidatorResults allResults = new ValidatorResults();
+            for (int pos = 0; pos < numberOfFieldsToValidate; pos++) {
+                tasks[pos].join();
+                allResults.merge(results[pos]);
+                if (!good[pos]) {
+                    break;
+                }
+            }
+            return allResults;
+        });
+    }
 
-                    final ValidatorAction action = actions.get(depend);
-                    if (action == null) {
-                        this.handleMissingAction(depend);
-                    }
+    /**
+     * Runs the validators in the depends clause, looking them up by name,
+     * until one fails.
+     * @return true if all of the validations passed.
+     */
+    private boolean validateDependencies(
+        final ValidatorResults results,
+        final Map<String, ValidatorAction> actions,
+        final Map<String, Object> params,
+        final Object indexedBean,
+        final Field indexedField)
+        throws ValidatorException {
 
-                    final boolean good = validateForRule(action, results, actions, params, fieldNumber);
+        for (final String depend : this.dependencyList) {
 
-                    if (!good) {
-                        allResults.merge(results);
-                        return allResults;
-                    }
-                }
+            final ValidatorAction action = actions.get(depend);
+            if (action == null) {
+                this.handleMissingAction(depend);
+            }
+
+            if (!validateForRule(action, results, actions, params, indexedBean, indexedField)) {
+                return false;
             }
-            allResults.merge(results);
         }
+        return true;
+    }
 
-        return allResults;
+    /**
+     * Runs the validations of this field, or of one element of its indexed
+     * property, until one fails.
+     * @param indexedBeans The elements of the indexed property, or
+     * {@code null} if the field is not indexed.
+     * @param pos The index of the element to validate.
+     * @return true if all of the validations passed.
+     */
+    private boolean validateElement(
+        final ValidatorResults results,
+        final ValidationPlan plan,
+        final Map<String, ValidatorAction> actions,
+        final Map<String, Object> params,
+        final Object[] indexedBeans,
+        final int pos)
+        throws ValidatorException {
+
+        final Object indexedBean = indexedBeans == null ? null : indexedBeans[pos];
+        final Field indexedField = indexedBeans == null ? null : this.createIndexedField(pos);
+        if (plan != null) {
+            return validatePlan(plan, results, params, indexedBean, indexedField);
+        }
+        return validateDependencies(results, actions, params, indexedBean, indexedField);
+    }
+
+    /**
+     * Runs the validators of a resolved execution plan until one fails.
+     * @return true if all of the validations passed.
+     */
+    private boolean validatePlan(
+        final ValidationPlan plan,
+        final ValidatorResults results,
+        final Map<String, Object> params,
+        final Object indexedBean,
+        final Field indexedField)
+        throws ValidatorException {
+
+        for (final ValidatorAction action : plan.rules) {
+            if (!action.executeValidationMethod(this, params, results, indexedBean, indexedField)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -910,7 +1192,8 @@ public class Field implements Cloneable, Serializable {
         final ValidatorResults results,
         final Map<String, ValidatorAction> actions,
         final Map<String, Object> params,
-        final int pos)
+        final Object indexedBean,
+        final Field indexedField)
         throws ValidatorException {
 
         final ValidatorResult result = results.getValidatorResult(this.getKey());
@@ -918,11 +1201,11 @@ public class Field implements Cloneable, Serializable {
             return result.isValid(va.getName());
         }
 
-        if (!this.runDependentValidators(va, results, actions, params, pos)) {
+        if (!this.runDependentValidators(va, results, actions, params, indexedBean, indexedField)) {
             return false;
         }
 
-        return va.executeValidationMethod(this, params, results, pos);
+        return va.executeValidationMethod(this, params, results, indexedBean, indexedField);
     }
 }
 
@@ -19,9 +19,13 @@ package org.apache.commons.validator;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.collections.FastHashMap; // DEPRECATED
 
@@ -72,6 +76,12 @@ public class Form implements Serializable {
      */
     private boolean processed;
 
+    /**
+     * The ordinals of the validator actions of the fields, assigned on first
+     * use by {@link CompactValidatorResults}.
+     */
+    private transient volatile CompactValidatorResults.Layout resultLayout;
+
     /**
      * Add a <code>Field</code> to the <code>Form</code>.
      *
@@ -82,6 +92,36 @@ public class Form implements Serializable {
         getFieldMap().put(f.getKey(), f);
     }
 
+    /**
+     * Resolves the validator actions of all of the <code>Form</code>'s
+     * <code>Field</code>s.
+     *
+     * @param actions  A Map of validator names to ValidatorAction objects
+     */
+    void compile(final Map<String, ValidatorAction> actions) {
+        for (final Field field : lFields) {
+            field.compile(actions);
+        }
+        this.resultLayout = null;
+    }
+
+    /**
+     * Gets the ordinals of the validator actions of the fields for
+     * {@link CompactValidatorResults}, assigning them again if the execution
+     * plans of the fields may have changed.
+     *
+     * @param actions  A Map of validator names to ValidatorAction objects
+     * @return         The ordinals of the validator actions
+     */
+    CompactValidatorResults.Layout getResultLayout(final Map<String, ValidatorAction> actions) {
+        CompactValidatorResults.Layout layout = this.resultLayout;
+        if (layout == null || !layout.isFor(actions)) {
+            layout = CompactValidatorResults.Layout.of(this.lFields, actions);
+            this.resultLayout = layout;
+        }
+        return layout;
+    }
+
     /**
      * Returns true if this Form contains a Field with the given name.
      *
@@ -316,7 +356,15 @@ public class Form implements Serializable {
      */
     ValidatorResults validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions, final int page, final String fieldName)
             throws ValidatorException {
-        final ValidatorResults results = new ValidatorResults();
+        return validateFields(params, actions, page, fieldName, new ValidatorResults());
+    }
+
+    /**
+     * Validate all Fields in this Form on the given page and below in the
+     * calling thread, recording the results in the given results.
+     */
+    private ValidatorResults validateFields(final Map<String, Object> params, final Map<String, ValidatorAction> actions, final int page,
+            final String fieldName, final ValidatorResults results) throws ValidatorException {
         params.put(Validator.VALIDATOR_RESULTS_PARAM, results);
 
         // Only validate a single field if specified
@@ -329,7 +377,7 @@ public class Form implements Serializable {
             params.put(Validator.FIELD_PARAM, field);
 
             if (field.getPage() <= page) {
-                results.merge(field.validate(params, actions));
+                field.validate(params, actions, results);
             }
         } else {
             for (final Field field : this.lFields) {
@@ -337,8 +385,92 @@ public class Form implements Serializable {
                 params.put(Validator.FIELD_PARAM, field);
 
                 if (field.getPage() <= page) {
-                    results.merge(field.validate(params, actions));
+                    field.validate(params, actions, results);
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Validate all Fields in this Form on the given page and below, running
+     * the validations with the given <code>Executor</code>.  Each field, and
+     * each element of an indexed field, is validated in a separate task with
+     * its own copy of the parameters, in which the <code>ValidatorResults</code>
+     * parameter only holds the results of that task.  The results are merged
+     * in field order once all tasks have completed, so they are the same as
+     * {@link #validate(Map, Map, int, String)} would return, but validation
+     * methods cannot see the results of other fields while they run.  If
+     * validations throw, the exception of the first field in order is thrown,
+     * as it would have been when validating in the calling thread.
+     *
+     * @param params               A Map of parameter class names to parameter
+     *      values to pass into validation methods.
+     * @param actions              A Map of validator names to ValidatorAction
+     *      objects.
+     * @param page                 Fields on pages higher than this will not be
+     *      validated.
+     * @param fieldName            The name of the only field to validate, or
+     *      {@code null} to validate all fields.
+     * @param executor             The Executor to run the validations on, or
+     *      {@code null} to run them in the calling thread.
+     * @param compactResults       Whether to return {@link CompactValidatorResults}.
+     * @return                     A ValidatorResults object containing all
+     *      validation messages.
+     * @throws ValidatorException
+     */
+    ValidatorResults validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions, final int page, final String fieldName,
+            final Executor executor, final boolean compactResults) throws ValidatorException {
+        final ValidatorResults results = compactResults ? new CompactValidatorResults(getResultLayout(actions)) : new ValidatorResults();
+        if (executor == null) {
+            return validateFields(params, actions, page, fieldName, results);
+        }
+
+        params.put(Validator.VALIDATOR_RESULTS_PARAM, results);
+
+        final List<Field> fields;
+        if (fieldName != null) {
+            final Field field = getFieldMap().get(fieldName);
+
+            if (field == null) {
+                throw new ValidatorException("Unknown field " + fieldName + " in form " + getName());
+            }
+            fields = Collections.singletonList(field);
+        } else {
+            fields = this.lFields;
+        }
+
+        final List<CompletableFuture<ValidatorResults>> fieldResults = new ArrayList<>();
+        for (final Field field : fields) {
+            if (field.getPage() <= page) {
+                final Map<String, Object> fieldParams = new HashMap<>(params);
+                fieldParams.put(Validator.FIELD_PARAM, field);
+                fieldParams.put(Validator.VALIDATOR_RESULTS_PARAM, new ValidatorResults());
+                fieldResults.add(field.validate(fieldParams, actions, executor));
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(fieldResults.toArray(new CompletableFuture<?>[0])).join();
+        } catch (final CompletionException e) {
+            // rethrown below in field order
+        }
+
+        for (final CompletableFuture<ValidatorResults> fieldResult : fieldResults) {
+            try {
+                results.merge(fieldResult.join());
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof ValidatorException) {
+                    throw (ValidatorException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
                 }
+                throw e;
             }
         }
 
@@ -17,12 +17,18 @@
 package org.apache.commons.validator;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import org.apache.commons.validator.routines.CreditCardValidator;
 import org.apache.commons.validator.routines.DateValidator;
 import org.apache.commons.validator.routines.EmailValidator;
+import org.apache.commons.validator.routines.RegexValidator;
 import org.apache.commons.validator.routines.UrlValidator;
 
 /**
@@ -42,6 +48,22 @@ public class GenericValidator implements Serializable {
      */
     private static final CreditCardValidator CREDIT_CARD_VALIDATOR = new CreditCardValidator();
 
+    /**
+     * The maximum number of regular expressions compiled by the
+     * <code>matchRegexp</code> methods that are kept.
+     */
+    private static final int MAX_CACHED_REGEXPS = 100;
+
+    /**
+     * Regular expressions compiled by {@link #matchRegexp(String, String)}.
+     */
+    private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    /**
+     * Validators created by {@link #matchRegexp(String, String, Duration)}.
+     */
+    private static final ConcurrentMap<String, RegexValidator> BOUNDED_PATTERNS = new ConcurrentHashMap<>();
+
     /**
      * Calculate an adjustment amount for line endings.
      *
@@ -290,7 +312,56 @@ public class GenericValidator implements Serializable {
             return false;
         }
 
-        return Pattern.matches(regexp, value);
+        return getCached(PATTERNS, regexp, Pattern::compile).matcher(value).matches();
+    }
+
+    /**
+     * <p>Checks if the value matches the regular expression within a time
+     * limit.</p>
+     *
+     * <p>Regular expressions with nested unbounded quantifiers, such as
+     * <code>(a+)+</code>, are rejected, and a value whose match takes longer
+     * than the timeout does not match.  See
+     * {@link RegexValidator#RegexValidator(String[], boolean, Duration)}.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param regexp The regular expression.
+     * @param timeout The maximum time that matching the value may take.
+     * @return true if matches the regular expression.
+     * @throws IllegalArgumentException if the regular expression has nested
+     * unbounded quantifiers or the timeout is not positive.
+     * @since 1.9.1
+     */
+    public static boolean matchRegexp(final String value, final String regexp, final Duration timeout) {
+        if (regexp == null || regexp.isEmpty()) {
+            return false;
+        }
+
+        RegexValidator validator = getCached(BOUNDED_PATTERNS, regexp, r -> new RegexValidator(new String[] { r }, true, timeout));
+        if (!timeout.equals(validator.getTimeout())) {
+            validator = new RegexValidator(new String[] { regexp }, true, timeout);
+            BOUNDED_PATTERNS.put(regexp, validator);
+        }
+        return validator.isValid(value);
+    }
+
+    /**
+     * Gets the value cached for a regular expression, creating it the first
+     * time.  An arbitrary entry is dropped when the cache is full.
+     */
+    private static <T> T getCached(final ConcurrentMap<String, T> cache, final String regexp, final Function<String, T> factory) {
+        T value = cache.get(regexp);
+        if (value == null) {
+            value = factory.apply(regexp);
+            if (cache.size() >= MAX_CACHED_REGEXPS) {
+                final Iterator<String> keys = cache.keySet().iterator();
+                if (keys.hasNext()) {
+                    cache.remove(keys.next());
+                }
+            }
+            cache.putIfAbsent(regexp, value);
+        }
+        return value;
     }
 
     /**
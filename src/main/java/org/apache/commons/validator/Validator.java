@@ -20,6 +20,8 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 
 /**
  * Validations are processed by the validate method. An instance of
@@ -133,6 +135,17 @@ public class Validator implements Serializable {
      */
     protected boolean onlyReturnErrors;
 
+    /**
+     * Whether to return {@link CompactValidatorResults}.
+     */
+    private boolean compactResults;
+
+    /**
+     * The Executor used to validate fields in parallel, or {@code null} to
+     * validate them in the calling thread.
+     */
+    private transient Executor executor;
+
     /**
      * Constructs a <code>Validator</code> that will
      * use the <code>ValidatorResources</code>
@@ -226,6 +239,27 @@ public class Validator implements Serializable {
         return this.getClass().getClassLoader();
     }
 
+    /**
+     * Gets whether validate() returns {@link CompactValidatorResults}.
+     *
+     * @return whether the results are compact.
+     * @since 1.9.1
+     */
+    public boolean getCompactResults() {
+        return compactResults;
+    }
+
+    /**
+     * Gets the Executor used to validate fields in parallel.
+     *
+     * @return the Executor, or {@code null} if fields are validated in the
+     * calling thread.
+     * @since 1.9.1
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
     /**
      * Gets the form name which is the key to a set of validation rules.
      * @return the name of the form.
@@ -288,6 +322,44 @@ public class Validator implements Serializable {
         this.classLoader = classLoader;
     }
 
+    /**
+     * Configures whether validate() returns {@link CompactValidatorResults}, which
+     * record the outcome of each rule as a bit instead of in a
+     * <code>ValidatorResult</code> per field.  By default, validate() returns
+     * <code>ValidatorResults</code>.
+     *
+     * @param compactResults whether the results are compact.
+     * @since 1.9.1
+     */
+    public void setCompactResults(final boolean compactResults) {
+        this.compactResults = compactResults;
+    }
+
+    /**
+     * Sets the Executor used to validate fields in parallel.  When set, each
+     * field, and each element of an indexed field, is validated in a separate
+     * task.  The results are merged in field order once all tasks have
+     * completed, so they are the same as when validating in the calling
+     * thread, except that:
+     * <ul>
+     * <li>the elements of an indexed field after one that fails, and the
+     *     fields after one that throws, are validated too, although their
+     *     results and exceptions are discarded, and</li>
+     * <li>the <code>ValidatorResults</code> parameter passed to validation
+     *     methods only contains the results of the field, or the element of
+     *     an indexed field, being validated.</li>
+     * </ul>
+     * The validation methods must be thread safe.  Validating in parallel only
+     * pays off for forms with many fields or large indexed properties.
+     *
+     * @param executor The Executor, for example a <code>ForkJoinPool</code>,
+     * or {@code null} to validate in the calling thread.
+     * @since 1.9.1
+     */
+    public void setExecutor(final Executor executor) {
+        this.executor = executor;
+    }
+
     /**
      * Sets the name of the field to validate in a form (optional)
      *
@@ -357,33 +429,82 @@ public class Validator implements Serializable {
     }
 
     /**
-     * Performs validations based on the configured resources.
+     * Gets the form to validate for the configured locale, or the default
+     * locale if none is configured.
      *
-     * @return The <code>Map</code> returned uses the property of the
-     * <code>Field</code> for the key and the value is the number of error the
-     * field had.
-     * @throws ValidatorException If an error occurs during validation
+     * @return the form or {@code null} if there is no such form.
      */
-    public ValidatorResults validate() throws ValidatorException {
+    private Form getForm() {
         Locale locale = (Locale) this.getParameterValue(LOCALE_PARAM);
 
         if (locale == null) {
             locale = Locale.getDefault();
         }
 
+        return this.resources.getForm(locale, this.formName);
+    }
+
+    /**
+     * Performs validations based on the configured resources.
+     *
+     * @return The <code>Map</code> returned uses the property of the
+     * <code>Field</code> for the key and the value is the number of error the
+     * field had.
+     * @throws ValidatorException If an error occurs during validation
+     */
+    public ValidatorResults validate() throws ValidatorException {
         this.setParameter(VALIDATOR_PARAM, this);
 
-        final Form form = this.resources.getForm(locale, this.formName);
+        final Form form = this.getForm();
         if (form != null) {
             this.setParameter(FORM_PARAM, form);
             return form.validate(
                 this.parameters,
-                this.resources.getValidatorActions(),
+                this.resources.getActions(),
                 this.page,
-                this.fieldName);
+                this.fieldName,
+                this.executor,
+                this.compactResults);
         }
 
         return new ValidatorResults();
     }
 
+    /**
+     * Performs validations of each of the given JavaBeans based on the
+     * configured resources.  The form is looked up once and the other
+     * parameters are reused for every bean, which is stored as the
+     * {@link #BEAN_PARAM} parameter while it is validated.  Set
+     * {@link #setOnlyReturnErrors(boolean)} to receive empty results for
+     * beans that pass validation.
+     * <p>
+     * Like {@link #validate()}, this method must not be called concurrently
+     * on the same <code>Validator</code>; use one instance per thread.
+     * </p>
+     *
+     * @param beans The JavaBeans to validate, for example
+     * <code>stream::iterator</code> to validate a <code>Stream</code>.
+     * @param consumer Receives each bean with its validation results, in the
+     * order the beans are validated.
+     * @throws ValidatorException If an error occurs during validation, in
+     * which case the remaining beans are not validated.
+     * @since 1.9.1
+     */
+    public void validate(final Iterable<?> beans, final BiConsumer<Object, ValidatorResults> consumer) throws ValidatorException {
+        this.setParameter(VALIDATOR_PARAM, this);
+
+        final Form form = this.getForm();
+        if (form != null) {
+            this.setParameter(FORM_PARAM, form);
+        }
+        final Map<String, ValidatorAction> actions = this.resources.getActions();
+
+        for (final Object bean : beans) {
+            this.setParameter(BEAN_PARAM, bean);
+            final ValidatorResults results = form == null ? new ValidatorResults()
+                    : form.validate(this.parameters, actions, this.page, this.fieldName, this.executor, this.compactResults);
+            consumer.accept(bean, results);
+        }
+    }
+
 }
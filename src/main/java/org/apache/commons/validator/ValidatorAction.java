@@ -21,6 +21,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -33,7 +36,6 @@ import java.util.StringTokenizer;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.commons.validator.util.ValidatorUtils;
 
 /**
  * Contains the information to dynamically create and run a validation method. This is the class representation of a pluggable validator that can be defined in
@@ -43,6 +45,40 @@ import org.apache.commons.validator.util.ValidatorUtils;
  */
 public class ValidatorAction implements Serializable {
 
+    /**
+     * A loaded validation method, with the instance it is invoked on. Instances are immutable so they can be shared between threads once published.
+     */
+    private static final class ValidationMethod {
+
+        /**
+         * The Method object loaded from the method name.
+         */
+        private final Method method;
+
+        /**
+         * The Class objects for each entry in methodParameterList.
+         */
+        private final Class<?>[] parameterClasses;
+
+        /**
+         * If the Java method matching the correct signature isn't static, the instance it is invoked on. This assumes the method is thread safe.
+         */
+        private final Object instance;
+
+        /**
+         * The method bound to its instance (if any) and adapted to take an <code>Object[]</code> of parameter values. This is {@code null} if the method
+         * could not be bound, in which case it is invoked reflectively.
+         */
+        private final MethodHandle handle;
+
+        private ValidationMethod(final Method method, final Class<?>[] parameterClasses, final Object instance, final MethodHandle handle) {
+            this.method = method;
+            this.parameterClasses = parameterClasses;
+            this.instance = instance;
+            this.handle = handle;
+        }
+    }
+
     private static final long serialVersionUID = 1339713700053204597L;
 
     /**
@@ -50,6 +86,12 @@ public class ValidatorAction implements Serializable {
      */
     private transient Log log = LogFactory.getLog(ValidatorAction.class);
 
+    /**
+     * The number of times the dependencies were set, so that a <code>Field</code>
+     * can tell that its execution plan was resolved before they changed.
+     */
+    private transient volatile int dependsChanges;
+
     /**
      * The name of the validation.
      */
@@ -60,20 +102,16 @@ public class ValidatorAction implements Serializable {
      */
     private String className;
 
-    /**
-     * The Class object loaded from the class name.
-     */
-    private Class<?> validationClass;
-
     /**
      * The full method name of the validation to be performed. The method must be thread safe.
      */
     private String method;
 
     /**
-     * The Method object loaded from the method name.
+     * The validation method, loaded the first time this action is executed or by {@link ValidatorResources#loadValidatorActions(ClassLoader)}. It is never
+     * modified once published, so it is read without locking.
      */
-    private transient Method validationMethod;
+    private transient volatile ValidationMethod validationMethod;
 
     /**
      * <p>
@@ -87,11 +125,6 @@ public class ValidatorAction implements Serializable {
      */
     private String methodParams = Validator.BEAN_PARAM + "," + Validator.VALIDATOR_ACTION_PARAM + "," + Validator.FIELD_PARAM;
 
-    /**
-     * The Class objects for each entry in methodParameterList.
-     */
-    private Class<?>[] parameterClasses;
-
     /**
      * The other <code>ValidatorAction</code>s that this one depends on. If any errors occur in an action that this one depends on, this action will not be
      * processsed.
@@ -119,15 +152,10 @@ public class ValidatorAction implements Serializable {
     private String javascript;
 
     /**
-     * If the Java method matching the correct signature isn't static, the instance is stored in the action. This assumes the method is thread safe.
+     * An internal unmodifiable List representation of the other <code>ValidatorAction</code>s this one depends on (if any). This List is replaced whenever
+     * setDepends() gets called, so it can be read without locking.
      */
-    private Object instance;
-
-    /**
-     * An internal List representation of the other <code>ValidatorAction</code>s this one depends on (if any). This List gets updated whenever setDepends()
-     * gets called. This is synchronized so a call to setDepends() (which clears the List) won't interfere with a call to isDependency().
-     */
-    private final List<String> dependencyList = Collections.synchronizedList(new ArrayList<>());
+    private volatile List<String> dependencyList = Collections.emptyList();
 
     /**
      * An internal List representation of all the validation method's parameters defined in the methodParams String.
@@ -140,48 +168,31 @@ public class ValidatorAction implements Serializable {
      * @param field
      * @param params  A Map of class names to parameter values.
      * @param results
-     * @param pos     The index of the list property to validate if it's indexed.
+     * @param indexedBean The element of the list property to validate if it's indexed.
+     * @param indexedField The field representing that element, or {@code null} if the field is not indexed.
      * @throws ValidatorException
      */
     boolean executeValidationMethod(final Field field,
             // TODO What is this the correct value type?
             // both ValidatorAction and Validator are added as parameters
-            final Map<String, Object> params, final ValidatorResults results, final int pos) throws ValidatorException {
+            final Map<String, Object> params, final ValidatorResults results, final Object indexedBean, final Field indexedField)
+            throws ValidatorException {
 
         params.put(Validator.VALIDATOR_ACTION_PARAM, this);
 
         try {
-            if (this.validationMethod == null) {
-                synchronized (this) {
-                    final ClassLoader loader = this.getClassLoader(params);
-                    this.loadValidationClass(loader);
-                    this.loadParameterClasses(loader);
-                    this.loadValidationMethod();
-                }
+            ValidationMethod validationMethod = this.validationMethod;
+            if (validationMethod == null) {
+                validationMethod = this.loadValidationMethod(this.getClassLoader(params));
             }
 
             final Object[] paramValues = this.getParameterValues(params);
 
-            if (field.isIndexed()) {
-                this.handleIndexedField(field, pos, paramValues);
+            if (indexedField != null) {
+                this.handleIndexedField(indexedBean, indexedField, paramValues);
             }
 
-            Object result = null;
-            try {
-                result = validationMethod.invoke(getValidationClassInstance(), paramValues);
-
-            } catch (IllegalArgumentException | IllegalAccessException e) {
-                throw new ValidatorException(e.getMessage());
-            } catch (final InvocationTargetException e) {
-
-                if (e.getTargetException() instanceof Exception) {
-                    throw (Exception) e.getTargetException();
-
-                }
-                if (e.getTargetException() instanceof Error) {
-                    throw (Error) e.getTargetException();
-                }
-            }
+            final Object result = this.invokeValidationMethod(validationMethod, paramValues);
 
             final boolean valid = this.isValid(result);
             if (!valid || valid && !onlyReturnErrors(params)) {
@@ -257,7 +268,16 @@ public class ValidatorAction implements Serializable {
      * @return List of the validator action's depedents.
      */
     public List<String> getDependencyList() {
-        return Collections.unmodifiableList(this.dependencyList);
+        return this.dependencyList;
+    }
+
+    /**
+     * Gets the number of times the dependencies were set.
+     *
+     * @return The number of changes to the dependencies so far.
+     */
+    int getDependsChanges() {
+        return this.dependsChanges;
     }
 
     /**
@@ -356,53 +376,132 @@ public class ValidatorAction implements Serializable {
         return paramValue;
     }
 
+    private Validator getValidator(final Map<String, Object> params) {
+        return (Validator) params.get(Validator.VALIDATOR_PARAM);
+    }
+
     /**
-     * Gets an instance of the validation class or null if the validation method is static so does not require an instance to be executed.
+     * Modifies the paramValue array with indexed fields.
+     *
+     * @param indexedBean The current element of the list property.
+     * @param indexedField The field with the key modified to represent the current element.
+     * @param paramValues
      */
-    private Object getValidationClassInstance() throws ValidatorException {
-        if (Modifier.isStatic(this.validationMethod.getModifiers())) {
-            this.instance = null;
+    private void handleIndexedField(final Object indexedBean, final Field indexedField, final Object[] paramValues) {
 
-        } else if (this.instance == null) {
-            try {
-                this.instance = this.validationClass.getConstructor().newInstance();
-            } catch (final ReflectiveOperationException e) {
-                final String msg1 = "Couldn't create instance of " + this.className + ".  " + e.getMessage();
+        final int beanIndex = this.methodParameterList.indexOf(Validator.BEAN_PARAM);
+        final int fieldIndex = this.methodParameterList.indexOf(Validator.FIELD_PARAM);
 
-                throw new ValidatorException(msg1);
+        // Set current iteration object to the parameter array
+        paramValues[beanIndex] = indexedBean;
+
+        paramValues[fieldIndex] = indexedField;
+    }
+
+    /**
+     * Binds the validation method to a <code>MethodHandle</code> taking the parameter values as an <code>Object[]</code>. The instance of the validation class
+     * is bound to the handle if the method is not static.
+     *
+     * @param validationMethod The validation method.
+     * @param instance The instance to invoke the method on, or {@code null} if the method is static.
+     * @return The bound handle or {@code null} if the method cannot be accessed through a <code>MethodHandle</code>.
+     */
+    private MethodHandle bindValidationMethod(final Method validationMethod, final Object instance) {
+        final MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(validationMethod);
+        } catch (final IllegalAccessException e) {
+            if (getLog().isDebugEnabled()) {
+                getLog().debug("Using reflection for validation method " + this.method + ": " + e.getMessage());
             }
+            return null;
         }
-
-        return this.instance;
+        final MethodHandle bound = instance == null ? handle : handle.bindTo(instance);
+        return bound.asSpreader(Object[].class, validationMethod.getParameterCount()).asType(MethodType.methodType(Object.class, Object[].class));
     }
 
-    private Validator getValidator(final Map<String, Object> params) {
-        return (Validator) params.get(Validator.VALIDATOR_PARAM);
+    /**
+     * Creates an instance of the validation class or returns null if the validation method is static so does not require an instance to be executed.
+     */
+    private Object createValidationClassInstance(final Class<?> validationClass, final Method validationMethod) throws ValidatorException {
+        if (Modifier.isStatic(validationMethod.getModifiers())) {
+            return null;
+        }
+        try {
+            return validationClass.getConstructor().newInstance();
+        } catch (final ReflectiveOperationException e) {
+            final String msg1 = "Couldn't create instance of " + this.className + ".  " + e.getMessage();
+
+            throw new ValidatorException(msg1);
+        }
     }
 
     /**
-     * Modifies the paramValue array with indexed fields.
+     * Invokes the validation method with the given parameter values, through its bound <code>MethodHandle</code> if there is one, otherwise reflectively.
      *
-     * @param field
-     * @param pos
-     * @param paramValues
+     * @param validationMethod The loaded validation method.
+     * @param paramValues The parameter values in the order of the method signature.
+     * @return The value returned by the validation method.
+     * @throws Exception Any exception thrown by the validation method.
      */
-    private void handleIndexedField(final Field field, final int pos, final Object[] paramValues) throws ValidatorException {
+    private Object invokeValidationMethod(final ValidationMethod validationMethod, final Object[] paramValues) throws Exception {
+        final MethodHandle handle = validationMethod.handle;
+        if (handle == null) {
+            return this.invokeValidationMethodReflectively(validationMethod, paramValues);
+        }
+        try {
+            return (Object) handle.invokeExact(paramValues);
+        } catch (final ClassCastException | NullPointerException e) {
+            // Report a mismatched or null primitive parameter the same way Method.invoke() would
+            for (int i = 0; i < paramValues.length; i++) {
+                if (!isAssignable(validationMethod.parameterClasses[i], paramValues[i])) {
+                    throw new ValidatorException(paramValues[i] == null ? "null argument for primitive parameter" : "argument type mismatch");
+                }
+            }
+            throw e;
+        } catch (final Exception | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ValidatorException(e.getMessage());
+        }
+    }
 
-        final int beanIndex = this.methodParameterList.indexOf(Validator.BEAN_PARAM);
-        final int fieldIndex = this.methodParameterList.indexOf(Validator.FIELD_PARAM);
+    /**
+     * Tests whether a parameter value can be passed to a parameter of the given type by <code>Method.invoke()</code>.
+     */
+    private static boolean isAssignable(final Class<?> parameterClass, final Object value) {
+        if (value == null) {
+            return !parameterClass.isPrimitive();
+        }
+        final Class<?> type = parameterClass.isPrimitive() ? MethodType.methodType(parameterClass).wrap().returnType() : parameterClass;
+        return type.isInstance(value);
+    }
 
-        final Object[] indexedList = field.getIndexedProperty(paramValues[beanIndex]);
+    /**
+     * Invokes the validation method reflectively with the given parameter values.
+     *
+     * @param validationMethod The loaded validation method.
+     * @param paramValues The parameter values in the order of the method signature.
+     * @return The value returned by the validation method.
+     * @throws Exception Any exception thrown by the validation method.
+     */
+    private Object invokeValidationMethodReflectively(final ValidationMethod validationMethod, final Object[] paramValues) throws Exception {
+        try {
+            return validationMethod.method.invoke(validationMethod.instance, paramValues);
 
-        // Set current iteration object to the parameter array
-        paramValues[beanIndex] = indexedList[pos];
+        } catch (IllegalArgumentException | IllegalAccessException e) {
+            throw new ValidatorException(e.getMessage());
+        } catch (final InvocationTargetException e) {
 
-        // Set field clone with the key modified to represent
-        // the current field
-        final Field indexedField = (Field) field.clone();
-        indexedField.setKey(ValidatorUtils.replace(indexedField.getKey(), Field.TOKEN_INDEXED, "[" + pos + "]"));
+            if (e.getTargetException() instanceof Exception) {
+                throw (Exception) e.getTargetException();
 
-        paramValues[fieldIndex] = indexedField;
+            }
+            if (e.getTargetException() instanceof Error) {
+                throw (Error) e.getTargetException();
+            }
+        }
+        return null;
     }
 
     /**
@@ -477,16 +576,12 @@ public class ValidatorAction implements Serializable {
     }
 
     /**
-     * Converts a List of parameter class names into their Class objects. Stores the output in {@link #parameterClasses}. This array is in the same order as the
-     * given List and is suitable for passing to the validation method.
+     * Converts a List of parameter class names into their Class objects. This array is in the same order as the given List and is suitable for passing to
+     * the validation method.
      *
      * @throws ValidatorException if a class cannot be loaded.
      */
-    private void loadParameterClasses(final ClassLoader loader) throws ValidatorException {
-
-        if (this.parameterClasses != null) {
-            return;
-        }
+    private Class<?>[] loadParameterClasses(final ClassLoader loader) throws ValidatorException {
 
         final Class<?>[] parameterClasses = new Class[this.methodParameterList.size()];
 
@@ -501,7 +596,7 @@ public class ValidatorAction implements Serializable {
             }
         }
 
-        this.parameterClasses = parameterClasses;
+        return parameterClasses;
     }
 
     /**
@@ -510,35 +605,54 @@ public class ValidatorAction implements Serializable {
      * @param loader The ClassLoader used to load the Class object.
      * @throws ValidatorException
      */
-    private void loadValidationClass(final ClassLoader loader) throws ValidatorException {
-
-        if (this.validationClass != null) {
-            return;
-        }
+    private Class<?> loadValidationClass(final ClassLoader loader) throws ValidatorException {
 
         try {
-            this.validationClass = loader.loadClass(this.className);
+            return loader.loadClass(this.className);
         } catch (final ClassNotFoundException e) {
             throw new ValidatorException(e.toString());
         }
     }
 
     /**
-     * Load the Method object for the configured validation method name.
+     * Loads the validation class, parameter classes and validation method, unless this has already been done. The loaded method is published without locking:
+     * threads racing to load it resolve equivalent results and whichever finishes last is kept.
      *
-     * @throws ValidatorException
+     * @param loader The ClassLoader used to load the validation and parameter classes.
+     * @return The loaded validation method.
+     * @throws ValidatorException if the validation method cannot be loaded.
      */
-    private void loadValidationMethod() throws ValidatorException {
-        if (this.validationMethod != null) {
-            return;
+    private ValidationMethod loadValidationMethod(final ClassLoader loader) throws ValidatorException {
+        ValidationMethod validationMethod = this.validationMethod;
+        if (validationMethod != null) {
+            return validationMethod;
         }
 
+        final Class<?> validationClass = this.loadValidationClass(loader);
+        final Class<?>[] parameterClasses = this.loadParameterClasses(loader);
+
+        final Method method;
         try {
-            this.validationMethod = this.validationClass.getMethod(this.method, this.parameterClasses);
+            method = validationClass.getMethod(this.method, parameterClasses);
 
         } catch (final NoSuchMethodException e) {
             throw new ValidatorException("No such validation method: " + e.getMessage());
         }
+
+        final Object instance = this.createValidationClassInstance(validationClass, method);
+        validationMethod = new ValidationMethod(method, parameterClasses, instance, this.bindValidationMethod(method, instance));
+        this.validationMethod = validationMethod;
+        return validationMethod;
+    }
+
+    /**
+     * Loads the validation method so that it is ready before this action is first executed.
+     *
+     * @param loader The ClassLoader used to load the validation and parameter classes.
+     * @throws ValidatorException if the validation method cannot be loaded.
+     */
+    void load(final ClassLoader loader) throws ValidatorException {
+        this.loadValidationMethod(loader);
     }
 
     /**
@@ -629,16 +743,19 @@ public class ValidatorAction implements Serializable {
     public void setDepends(final String depends) {
         this.depends = depends;
 
-        this.dependencyList.clear();
+        final List<String> dependencyList = new ArrayList<>();
 
         final StringTokenizer st = new StringTokenizer(depends, ",");
         while (st.hasMoreTokens()) {
             final String depend = st.nextToken().trim();
 
             if (depend != null && !depend.isEmpty()) {
-                this.dependencyList.add(depend);
+                dependencyList.add(depend);
             }
         }
+
+        this.dependencyList = Collections.unmodifiableList(dependencyList);
+        this.dependsChanges++;
     }
 
     /**
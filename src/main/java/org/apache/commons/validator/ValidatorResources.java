@@ -16,13 +16,30 @@
  */
 package org.apache.commons.validator;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.CRC32;
 
 import org.apache.commons.collections.FastHashMap; // DEPRECATED
 import org.apache.commons.digester.Digester;
@@ -79,6 +96,71 @@ public class ValidatorResources implements Serializable {
         "/org/apache/commons/validator/resources/validator_1_4_0.dtd"
     };
 
+    /** Marks the start of a snapshot written by {@link #writeSnapshot(OutputStream)} */
+    private static final int SNAPSHOT_MAGIC = 0x56524553; // "VRES"
+
+    /** Version of the snapshot format, changed whenever the layout of a snapshot changes */
+    private static final int SNAPSHOT_VERSION = 1;
+
+    /** Size of the chunks a snapshot is read in */
+    private static final int SNAPSHOT_BUFFER_SIZE = 8192;
+
+    /** The package whose classes a snapshot may contain */
+    private static final String SNAPSHOT_PACKAGE = "org.apache.commons.validator.";
+
+    /**
+     * The classes outside {@link #SNAPSHOT_PACKAGE} that a snapshot may
+     * contain, which are the collections used by the resource classes.
+     */
+    private static final Set<String> SNAPSHOT_CLASSES = new HashSet<>(Arrays.asList(
+        "java.util.ArrayList",
+        "java.util.Collections$EmptyList",
+        "java.util.Collections$EmptyMap",
+        "java.util.Collections$UnmodifiableCollection",
+        "java.util.Collections$UnmodifiableList",
+        "java.util.Collections$UnmodifiableMap",
+        "java.util.Collections$UnmodifiableRandomAccessList",
+        "java.util.HashMap",
+        "java.util.LinkedHashMap",
+        "java.util.Map",
+        "org.apache.commons.collections.FastHashMap"));
+
+    /**
+     * Reads the objects of a snapshot, refusing any class that the resources
+     * are not made of.  This stops a snapshot from creating arbitrary
+     * <code>Serializable</code> objects.
+     */
+    private static final class SnapshotInputStream extends ObjectInputStream {
+
+        /**
+         * Returns whether a snapshot may contain instances of a class.
+         */
+        private static boolean isAllowed(final String className) {
+            if (className.startsWith("[L") && className.endsWith(";")) {
+                return isAllowed(className.substring(2, className.length() - 1));
+            }
+            return className.startsWith(SNAPSHOT_PACKAGE) && className.indexOf('.', SNAPSHOT_PACKAGE.length()) < 0
+                    || SNAPSHOT_CLASSES.contains(className);
+        }
+
+        SnapshotInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!isAllowed(desc.getName())) {
+                throw new InvalidClassException(desc.getName(), "Class not allowed in a ValidatorResources snapshot");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(final String[] interfaces) throws IOException {
+            throw new InvalidClassException("Proxy classes are not allowed in a ValidatorResources snapshot");
+        }
+    }
+
     /**
      * The default locale on our server.
      */
@@ -119,6 +201,14 @@ public class ValidatorResources implements Serializable {
      */
     protected FormSet defaultFormSet;
 
+    /**
+     * The <code>Form</code>s of each <code>Locale</code> declared by a
+     * <code>FormSet</code>, keyed by form name with the <code>Locale</code>
+     * fallback already applied.  This is built by {@link #process()} and
+     * dropped whenever a <code>FormSet</code> is added.
+     */
+    private transient volatile Map<Locale, Map<String, Form>> formLookup;
+
     /**
      * Create an empty ValidatorResources object.
      */
@@ -258,6 +348,7 @@ public class ValidatorResources implements Serializable {
      * @since 1.1
      */
     public void addFormSet(final FormSet fs) {
+        this.formLookup = null;
         final String key = this.buildKey(fs);
         if (key.isEmpty()) { // there can only be one default formset
             if (getLog().isWarnEnabled() && defaultFormSet != null) {
@@ -321,13 +412,24 @@ public class ValidatorResources implements Serializable {
      * Add a <code>ValidatorAction</code> to the resource.  It also creates an
      * instance of the class based on the <code>ValidatorAction</code>s
      * class name and retrieves the <code>Method</code> instance and sets them
-     * in the <code>ValidatorAction</code>.
+     * in the <code>ValidatorAction</code>.  If the resources were already
+     * processed, the execution plans of the <code>Field</code>s are resolved
+     * again.
      * @param va The validator action.
      */
     public void addValidatorAction(final ValidatorAction va) {
         va.init();
 
         getActions().put(va.getName(), va);
+        if (hActions.getFast()) {
+            // the resources were processed, so resolve the Fields that may use the action again
+            if (defaultFormSet != null) {
+                compileForms(defaultFormSet);
+            }
+            for (final FormSet fs : getFormSets().values()) {
+                compileForms(fs);
+            }
+        }
 
         if (getLog().isDebugEnabled()) {
             getLog().debug("Add ValidatorAction: " + va.getName() + "," + va.getClassname());
@@ -391,8 +493,19 @@ public class ValidatorResources implements Serializable {
      * @since 1.1
      */
     public Form getForm(final Locale locale, final String formKey) {
-        return this.getForm(locale.getLanguage(), locale.getCountry(), locale
-                .getVariant(), formKey);
+        if (formKey == null) {
+            return this.getForm(locale.getLanguage(), locale.getCountry(), locale.getVariant(), formKey);
+        }
+
+        final Map<Locale, Map<String, Form>> lookup = this.formLookup;
+        if (lookup != null) {
+            final Map<String, Form> forms = getForms(lookup, locale);
+            final Form form = forms == null ? null : forms.get(formKey);
+            if (form != null) {
+                return form;
+            }
+        }
+        return this.getForm(locale.getLanguage(), locale.getCountry(), locale.getVariant(), formKey);
     }
 
     /**
@@ -466,6 +579,34 @@ public class ValidatorResources implements Serializable {
 
     }
 
+    /**
+     * Gets the <code>Form</code>s of the <code>Locale</code> that most closely
+     * matches the <code>Locale</code> passed in, in the same order as
+     * {@link #getForm(Locale, String)}.
+     */
+    private Map<String, Form> getForms(final Map<Locale, Map<String, Form>> lookup, final Locale locale) {
+        Map<String, Form> forms = lookup.get(locale);
+        if (forms == null) {
+            final String language = locale.getLanguage();
+            final String country = locale.getCountry();
+            final String variant = locale.getVariant();
+            // The Locale may have a script or extensions
+            if (!variant.isEmpty()) {
+                forms = lookup.get(new Locale(language, country, variant));
+            }
+            if (forms == null && !country.isEmpty()) {
+                forms = lookup.get(new Locale(language, country));
+            }
+            if (forms == null && !language.isEmpty()) {
+                forms = lookup.get(new Locale(language));
+            }
+            if (forms == null) {
+                forms = lookup.get(Locale.ROOT);
+            }
+        }
+        return forms;
+    }
+
     /**
      * <p>Gets a <code>FormSet</code> based on the language, country
      *    and variant.</p>
@@ -589,6 +730,20 @@ public class ValidatorResources implements Serializable {
         return digester;
     }
 
+    /**
+     * Loads the validation class and method of every <code>ValidatorAction</code>. This is otherwise done the first time each action is executed, so calling
+     * this method once the resources have been processed moves that work to startup and reports misconfigured actions early.
+     *
+     * @param classLoader The ClassLoader used to load the validation classes and the classes of their method parameters.
+     * @throws ValidatorException if a validation class or method cannot be loaded.
+     * @since 1.9.1
+     */
+    public void loadValidatorActions(final ClassLoader classLoader) throws ValidatorException {
+        for (final ValidatorAction va : getActions().values()) {
+            va.load(classLoader);
+        }
+    }
+
     /**
      * Process the <code>ValidatorResources</code> object. Currently sets the
      * <code>FastHashMap</code> s to the 'fast' mode and call the processes
@@ -605,6 +760,84 @@ public class ValidatorResources implements Serializable {
         this.processForms();
     }
 
+    /**
+     * Reads <code>ValidatorResources</code> from a snapshot written by
+     * {@link #writeSnapshot(OutputStream)}.  The resources are returned
+     * processed and ready for use, without parsing any XML.
+     *
+     * <p>The snapshot is rejected if it was written by an incompatible version
+     * of this class, if its checksum does not match its content or if it
+     * contains any class other than the classes of this package and the
+     * collections they use.  Subclasses of the resource classes declared in
+     * other packages can therefore not be read from a snapshot.</p>
+     *
+     * @param in InputStream to a snapshot.  It's the client's responsibility
+     * to close this stream.
+     * @return The resources stored in the snapshot.
+     * @throws IOException if an I/O error occurs or the snapshot is not valid.
+     * @since 1.9.1
+     */
+    public static ValidatorResources readSnapshot(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != SNAPSHOT_MAGIC) {
+            throw new StreamCorruptedException("Not a ValidatorResources snapshot");
+        }
+        final int version = data.readInt();
+        final long uid = data.readLong();
+        if (version != SNAPSHOT_VERSION || uid != serialVersionUID) {
+            throw new StreamCorruptedException("Incompatible ValidatorResources snapshot version " + version);
+        }
+        final int length = data.readInt();
+        final long checksum = data.readLong();
+        if (length < 0) {
+            throw new StreamCorruptedException("Invalid ValidatorResources snapshot length " + length);
+        }
+        final byte[] payload = readPayload(data, length);
+        final CRC32 crc = new CRC32();
+        crc.update(payload, 0, length);
+        if (crc.getValue() != checksum) {
+            throw new StreamCorruptedException("ValidatorResources snapshot checksum mismatch");
+        }
+
+        final ValidatorResources resources;
+        try (ObjectInputStream objects = new SnapshotInputStream(new ByteArrayInputStream(payload))) {
+            resources = (ValidatorResources) objects.readObject();
+        } catch (final ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Invalid ValidatorResources snapshot", e);
+        }
+
+        // The compiled validation plans are not serialized
+        if (resources.defaultFormSet != null) {
+            resources.compileForms(resources.defaultFormSet);
+        }
+        for (final FormSet fs : resources.getFormSets().values()) {
+            resources.compileForms(fs);
+        }
+        if (resources.defaultFormSet != null) {
+            resources.formLookup = resources.buildFormLookup();
+        }
+        return resources;
+    }
+
+    /**
+     * Reads the payload of a snapshot.  The payload is read in chunks, so a
+     * corrupt length only allocates as much memory as the stream holds.
+     */
+    private static byte[] readPayload(final InputStream in, final int length) throws IOException {
+        final byte[] buffer = new byte[Math.min(length, SNAPSHOT_BUFFER_SIZE)];
+        final ByteArrayOutputStream payload = new ByteArrayOutputStream(buffer.length);
+        int remaining = length;
+        while (remaining > 0) {
+            final int count = in.read(buffer, 0, Math.min(remaining, buffer.length));
+            if (count < 0) {
+                throw new EOFException("Truncated ValidatorResources snapshot");
+            }
+            payload.write(buffer, 0, count);
+            remaining -= count;
+        }
+        return payload.toByteArray();
+    }
+
     /**
      * <p>Process the <code>Form</code> objects.  This clones the <code>Field</code>s
      * that don't exist in a <code>FormSet</code> compared to its parent
@@ -628,6 +861,95 @@ public class ValidatorResources implements Serializable {
                 fs.process(getConstants());
             }
         }
+
+        // Resolve the ValidatorActions of every Field
+        compileForms(defaultFormSet);
+        for (final FormSet fs : getFormSets().values()) {
+            compileForms(fs);
+        }
+
+        this.formLookup = buildFormLookup();
+    }
+
+    /**
+     * Resolves the <code>Form</code>s of each <code>Locale</code> declared by
+     * a <code>FormSet</code>, using the same <code>Locale</code> fallback as
+     * {@link #getForm(String, String, String, String)}.
+     */
+    private Map<Locale, Map<String, Form>> buildFormLookup() {
+        final Map<Locale, Map<String, Form>> lookup = new HashMap<>();
+        lookup.put(Locale.ROOT, new HashMap<>(defaultFormSet.getForms()));
+        for (final Map.Entry<String, FormSet> entry : getFormSets().entrySet()) {
+            final FormSet fs = entry.getValue();
+            final Locale locale = new Locale(Objects.toString(fs.getLanguage(), ""), Objects.toString(fs.getCountry(), ""),
+                    Objects.toString(fs.getVariant(), ""));
+            // getForm(Locale, String) can never match a key that the Locale does not build
+            if (!entry.getKey().equals(buildLocale(locale.getLanguage(), locale.getCountry(), locale.getVariant()))) {
+                continue;
+            }
+            final Map<String, Form> forms = new HashMap<>(defaultFormSet.getForms());
+            putForms(forms, buildLocale(locale.getLanguage(), null, null));
+            putForms(forms, buildLocale(locale.getLanguage(), locale.getCountry(), null));
+            putForms(forms, entry.getKey());
+            lookup.put(locale, forms);
+        }
+        return lookup;
+    }
+
+    /**
+     * Adds the <code>Form</code>s of the <code>FormSet</code> with the given key, if any.
+     */
+    private void putForms(final Map<String, Form> forms, final String key) {
+        if (!key.isEmpty()) {
+            final FormSet formSet = getFormSets().get(key);
+            if (formSet != null) {
+                forms.putAll(formSet.getForms());
+            }
+        }
+    }
+
+    /**
+     * Resolves the <code>ValidatorAction</code>s used by the <code>Form</code>s
+     * of a <code>FormSet</code>, so that validation does not look them up by name.
+     */
+    private void compileForms(final FormSet fs) {
+        for (final Form form : fs.getForms().values()) {
+            form.compile(getActions());
+        }
+    }
+
+    /**
+     * Writes these resources as a binary snapshot that can be read back with
+     * {@link #readSnapshot(InputStream)}.  Loading a snapshot is much faster
+     * than parsing the XML configuration files, as the constants and the
+     * <code>FormSet</code> inheritance have already been resolved.
+     *
+     * <p>The resources should be processed before a snapshot is written.  The
+     * snapshot carries a format version and a checksum of its content.</p>
+     *
+     * @param out OutputStream the snapshot is written to.  It's the client's
+     * responsibility to close this stream.
+     * @throws IOException if an I/O error occurs or the resources contain an
+     * object that cannot be serialized.
+     * @since 1.9.1
+     */
+    public void writeSnapshot(final OutputStream out) throws IOException {
+        final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (ObjectOutputStream objects = new ObjectOutputStream(payload)) {
+            objects.writeObject(this);
+        }
+        final byte[] bytes = payload.toByteArray();
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(SNAPSHOT_MAGIC);
+        data.writeInt(SNAPSHOT_VERSION);
+        data.writeLong(serialVersionUID);
+        data.writeInt(bytes.length);
+        data.writeLong(crc.getValue());
+        data.write(bytes);
+        data.flush();
     }
 
 }
@@ -72,6 +72,17 @@ public class ValidatorResults implements Serializable {
         validatorResult.add(validatorName, result, value);
     }
 
+    /**
+     * Adds the results recorded by this object to a map of results by key.
+     *
+     * @param results The map to add the results to.
+     */
+    void addTo(final Map<String, ValidatorResult> results) {
+        if (!this.hResults.isEmpty()) {
+            results.putAll(this.hResults);
+        }
+    }
+
     /**
      * Clear all results recorded by this object.
      */
@@ -79,6 +90,25 @@ public class ValidatorResults implements Serializable {
         this.hResults.clear();
     }
 
+    /**
+     * Tests whether a result of the field with the given key is recorded.
+     *
+     * @param key The key generated from <code>Field</code>.
+     * @return true if a result is recorded for the key.
+     */
+    boolean containsKey(final String key) {
+        return this.hResults.containsKey(key);
+    }
+
+    /**
+     * Creates empty results recorded the same way as these results.
+     *
+     * @return The new results.
+     */
+    ValidatorResults createEmpty() {
+        return new ValidatorResults();
+    }
+
     /**
      * Gets the set of property names for which at least one message has
      * been recorded.
@@ -143,7 +173,7 @@ public class ValidatorResults implements Serializable {
      * @param results ValidatorResults to merge.
      */
     public void merge(final ValidatorResults results) {
-        this.hResults.putAll(results.hResults);
+        results.addTo(this.hResults);
     }
 
 }
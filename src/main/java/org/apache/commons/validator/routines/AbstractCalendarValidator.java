@@ -368,6 +368,25 @@ public abstract class AbstractCalendarValidator extends AbstractFormatValidator
      */
     @Override
     protected Format getFormat(final String pattern, final Locale locale) {
+        // a format takes the default time zone when it is created
+        final Format format = getCachedFormat(GenericValidator.isBlankOrNull(pattern) ? null : pattern, locale, TimeZone.getDefault(),
+                this::createFormat);
+        if (format instanceof SimpleDateFormat) {
+            // a new format parses two-digit years within 80 years before and 20 years after it is created,
+            // so move the century of the cached format on to now
+            final SimpleDateFormat dateFormat = (SimpleDateFormat) format;
+            final Calendar calendar = dateFormat.getCalendar();
+            calendar.setTimeInMillis(System.currentTimeMillis());
+            calendar.add(Calendar.YEAR, -80); // CHECKSTYLE IGNORE MagicNumber
+            dateFormat.set2DigitYearStart(calendar.getTime());
+        }
+        return format;
+    }
+
+    /**
+     * Creates the <code>DateFormat</code> for a pattern and/or <code>Locale</code>.
+     */
+    private Format createFormat(final String pattern, final Locale locale) {
         DateFormat formatter;
         final boolean usePattern = !GenericValidator.isBlankOrNull(pattern);
         if (!usePattern) {
@@ -19,7 +19,12 @@ package org.apache.commons.validator.routines;
 import java.io.Serializable;
 import java.text.Format;
 import java.text.ParsePosition;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
 
 /**
  * <p>Abstract class for <i>Format</i> based Validation.</p>
@@ -31,13 +36,54 @@ import java.util.Locale;
  */
 public abstract class AbstractFormatValidator implements Serializable {
 
+    /**
+     * The pattern and resolved locale a format was created for, and anything
+     * else it depends on.
+     */
+    static final class FormatKey {
+
+        private final String pattern;
+        private final Locale locale;
+        private final Object variant;
+
+        FormatKey(final String pattern, final Locale locale, final Object variant) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.variant = variant;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof FormatKey)) {
+                return false;
+            }
+            final FormatKey other = (FormatKey) obj;
+            return Objects.equals(pattern, other.pattern) && locale.equals(other.locale) && Objects.equals(variant, other.variant);
+        }
+
+        @Override
+        public int hashCode() {
+            return (Objects.hashCode(pattern) * 31 + locale.hashCode()) * 31 + Objects.hashCode(variant); // CHECKSTYLE IGNORE MagicNumber
+        }
+    }
+
     private static final long serialVersionUID = -4690687565200568258L;
 
+    /**
+     * The maximum number of format prototypes cached by a validator.
+     */
+    private static final int MAX_CACHED_FORMATS = 100;
+
     /**
      * Whether to use strict format.
      */
     private final boolean strict;
 
+    /**
+     * The format prototypes by pattern and locale, created on first use.
+     */
+    private transient volatile ConcurrentMap<FormatKey, Format> formats;
+
     /**
      * Constructs an instance with the specified strict setting.
      *
@@ -48,6 +94,94 @@ public abstract class AbstractFormatValidator implements Serializable {
         this.strict = strict;
     }
 
+    /**
+     * <p>Gets a copy of the format for a pattern and locale.</p>
+     *
+     * <p>Formats are not thread safe, so the format created by the factory
+     *    the first time a pattern and locale are used is kept as a prototype
+     *    and each call returns a clone of it, which is cheaper than creating
+     *    the format again. A {@code null} locale is resolved to the current
+     *    default, so changing the default locale is respected.</p>
+     *
+     * @param pattern The pattern of the format or {@code null} for the default.
+     * @param locale The locale of the format, system default if null.
+     * @param factory Creates the format for a pattern and locale.
+     * @return A new copy of the format.
+     */
+    Format getCachedFormat(final String pattern, final Locale locale, final BiFunction<String, Locale, Format> factory) {
+        return getCachedFormat(pattern, locale, null, factory);
+    }
+
+    /**
+     * <p>Gets a copy of the format for a pattern and locale which also
+     *    depends on something else, such as the default time zone.</p>
+     *
+     * @param pattern The pattern of the format or {@code null} for the default.
+     * @param locale The locale of the format, system default if null.
+     * @param variant What else the format depends on, {@code null} if nothing.
+     * @param factory Creates the format for a pattern and locale.
+     * @return A new copy of the format.
+     * @see #getCachedFormat(String, Locale, BiFunction)
+     */
+    Format getCachedFormat(final String pattern, final Locale locale, final Object variant,
+            final BiFunction<String, Locale, Format> factory) {
+        ConcurrentMap<FormatKey, Format> cache = formats;
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            formats = cache;
+        }
+        return (Format) getCached(cache, pattern, locale, variant, factory).clone();
+    }
+
+    /**
+     * <p>Gets the value cached for a pattern and locale, creating it with
+     *    the factory the first time. A {@code null} locale is resolved to the
+     *    current default. The number of values cached is bounded: when the
+     *    cache is full an arbitrary value is dropped to make room.</p>
+     *
+     * @param <T> The type of the cached values.
+     * @param cache The cached values.
+     * @param pattern The pattern of the value or {@code null} for the default.
+     * @param locale The locale of the value, system default if null.
+     * @param factory Creates the value for a pattern and locale.
+     * @return The cached value.
+     */
+    static <T> T getCached(final ConcurrentMap<FormatKey, T> cache, final String pattern, final Locale locale,
+            final BiFunction<String, Locale, T> factory) {
+        return getCached(cache, pattern, locale, null, factory);
+    }
+
+    /**
+     * <p>Gets the value cached for a pattern and locale which also depends
+     *    on something else, creating it with the factory the first time.</p>
+     *
+     * @param <T> The type of the cached values.
+     * @param cache The cached values.
+     * @param pattern The pattern of the value or {@code null} for the default.
+     * @param locale The locale of the value, system default if null.
+     * @param variant What else the value depends on, {@code null} if nothing.
+     * @param factory Creates the value for a pattern and locale.
+     * @return The cached value.
+     * @see #getCached(ConcurrentMap, String, Locale, BiFunction)
+     */
+    static <T> T getCached(final ConcurrentMap<FormatKey, T> cache, final String pattern, final Locale locale, final Object variant,
+            final BiFunction<String, Locale, T> factory) {
+        final FormatKey key = new FormatKey(pattern, locale == null ? Locale.getDefault(Locale.Category.FORMAT) : locale, variant);
+        T value = cache.get(key);
+        if (value == null) {
+            value = factory.apply(pattern, locale);
+            if (cache.size() >= MAX_CACHED_FORMATS) {
+                // make room, so that the patterns in use now are cached rather than the first ones seen
+                final Iterator<FormatKey> keys = cache.keySet().iterator();
+                if (keys.hasNext()) {
+                    cache.remove(keys.next());
+                }
+            }
+            cache.putIfAbsent(key, value);
+        }
+        return value;
+    }
+
     /**
      * <p>Format an object into a <code>String</code> using
      * the default Locale.</p>
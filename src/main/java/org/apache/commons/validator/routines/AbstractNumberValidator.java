@@ -21,6 +21,9 @@ import java.text.DecimalFormatSymbols;
 import java.text.Format;
 import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.validator.GenericValidator;
 
@@ -34,8 +37,48 @@ import org.apache.commons.validator.GenericValidator;
  */
 public abstract class AbstractNumberValidator extends AbstractFormatValidator {
 
+    /**
+     * The syntax of <i>plain</i> integers in a format: ASCII digits with an optional
+     * leading minus sign and grouping separators between the digits.
+     */
+    private static final class PlainSyntax {
+
+        /** The pattern of the format, {@code null} for the default. */
+        final String pattern;
+
+        /** The locale of the format, resolved if the default. */
+        final Locale locale;
+
+        /** Whether plain integers can be parsed without the format. */
+        final boolean plain;
+
+        /** The negative prefix, or -1 if negative values are not plain. */
+        final int minusSign;
+
+        /** The grouping separator, or -1 if grouping is not used. */
+        final int grouping;
+
+        PlainSyntax(final String pattern, final Locale locale, final boolean plain, final int minusSign, final int grouping) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.plain = plain;
+            this.minusSign = minusSign;
+            this.grouping = grouping;
+        }
+
+        boolean isFor(final String pattern, final Locale locale) {
+            return this.locale.equals(locale) && Objects.equals(this.pattern, pattern);
+        }
+    }
+
     private static final long serialVersionUID = -3088817875906765463L;
 
+    /**
+     * Returned by {@link #parsePlainLong(String, String, Locale)} for values which
+     * have to be parsed with the format.
+     */
+    static final long NOT_PLAIN = Long.MIN_VALUE;
+
     /** Standard <code>NumberFormat</code> type */
     public static final int STANDARD_FORMAT = 0;
 
@@ -55,6 +98,17 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
      */
     private final int formatType;
 
+    /**
+     * The plain integer syntax of the formats by pattern and locale, created on first use.
+     */
+    private transient volatile ConcurrentMap<FormatKey, PlainSyntax> syntaxes;
+
+    /**
+     * The plain integer syntax last used, so repeated calls for the same pattern
+     * and locale need no lookup.
+     */
+    private transient volatile PlainSyntax lastSyntax;
+
     /**
      * Constructs an instance with specified <i>strict</i>
      * and <i>decimal</i> parameters.
@@ -143,6 +197,45 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
         return formatter;
     }
 
+    /**
+     * Determines the plain integer syntax of the format for a pattern and/or <code>Locale</code>.
+     *
+     * <p>The syntax is only plain if the format parses such a value exactly as
+     *    {@link #parsePlainLong(String, String, Locale)} does: a standard
+     *    <code>DecimalFormat</code> parsing integers only, with no positive prefix
+     *    or suffix, no multiplier and ASCII digits.</p>
+     */
+    private PlainSyntax createSyntax(final String pattern, final Locale locale) {
+        final Format format = getFormat(pattern, locale);
+        final Locale resolved = locale == null ? Locale.getDefault(Locale.Category.FORMAT) : locale;
+        final PlainSyntax none = new PlainSyntax(pattern, resolved, false, -1, -1);
+        if (formatType != STANDARD_FORMAT || !(format instanceof DecimalFormat)) {
+            return none;
+        }
+        final DecimalFormat decimalFormat = (DecimalFormat) format;
+        final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        if (!decimalFormat.isParseIntegerOnly() || decimalFormat.isParseBigDecimal() || decimalFormat.getMultiplier() != 1
+                || !decimalFormat.getPositivePrefix().isEmpty() || !decimalFormat.getPositiveSuffix().isEmpty()
+                || symbols.getZeroDigit() != '0') {
+            return none;
+        }
+        final String negativePrefix = decimalFormat.getNegativePrefix();
+        final String negativeSuffix = decimalFormat.getNegativeSuffix();
+        final int grouping = decimalFormat.isGroupingUsed() ? symbols.getGroupingSeparator() : -1;
+        if (negativePrefix.isEmpty() && negativeSuffix.isEmpty()
+                || grouping >= 0 && (Character.isDigit(grouping) || grouping == symbols.getDecimalSeparator())) {
+            return none;
+        }
+        int minusSign = -1;
+        if (negativePrefix.length() == 1 && negativeSuffix.isEmpty()) {
+            minusSign = negativePrefix.charAt(0);
+            if (Character.isDigit(minusSign) || minusSign == grouping) {
+                return none;
+            }
+        }
+        return new PlainSyntax(pattern, resolved, true, minusSign, grouping);
+    }
+
     /**
      * <p>Returns a <code>NumberFormat</code> for the specified <i>pattern</i>
      *    and/or <code>Locale</code>.</p>
@@ -154,7 +247,13 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
      */
     @Override
     protected Format getFormat(final String pattern, final Locale locale) {
+        return getCachedFormat(GenericValidator.isBlankOrNull(pattern) ? null : pattern, locale, this::createFormat);
+    }
 
+    /**
+     * Creates the <code>NumberFormat</code> for a pattern and/or <code>Locale</code>.
+     */
+    private Format createFormat(final String pattern, final Locale locale) {
         NumberFormat formatter;
         final boolean usePattern = !GenericValidator.isBlankOrNull(pattern);
         if (!usePattern) {
@@ -270,6 +369,85 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
 
     }
 
+    /**
+     * <p>Parses a <i>plain</i> integer without the overhead of the <code>Format</code>.</p>
+     *
+     * <p>A plain integer is made of ASCII digits with the format's minus sign
+     *    in front if negative and the format's grouping separators between
+     *    the digits, for example <code>-12,345</code> for the US locale. Such
+     *    a value is parsed directly into a <code>long</code>; any other value,
+     *    including one outside the range of a <code>long</code>, and any format
+     *    with a more complex syntax, such as a currency or percent format, is
+     *    left for the <code>Format</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @param locale The locale to use for the format, system default if null.
+     * @return The parsed value, or {@link #NOT_PLAIN} if the value has to be
+     *         parsed with the format.
+     */
+    final long parsePlainLong(final String value, final String pattern, final Locale locale) {
+        if (value == null) {
+            return NOT_PLAIN;
+        }
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return NOT_PLAIN;
+        }
+        final String plainPattern = GenericValidator.isBlankOrNull(pattern) ? null : pattern;
+        PlainSyntax syntax = lastSyntax;
+        if (syntax == null || !syntax.isFor(plainPattern, locale == null ? Locale.getDefault(Locale.Category.FORMAT) : locale)) {
+            ConcurrentMap<FormatKey, PlainSyntax> cache = syntaxes;
+            if (cache == null) {
+                cache = new ConcurrentHashMap<>();
+                syntaxes = cache;
+            }
+            syntax = getCached(cache, plainPattern, locale, this::createSyntax);
+            lastSyntax = syntax;
+        }
+        if (!syntax.plain) {
+            return NOT_PLAIN;
+        }
+        final boolean negative = value.charAt(start) == syntax.minusSign;
+        if (negative) {
+            start++;
+        }
+        // accumulate negatively, as Long.parseLong does, so Long.MIN_VALUE is reached without overflow
+        long result = 0;
+        boolean digit = false;
+        for (int i = start; i < end; i++) {
+            final char ch = value.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                if (result < Long.MIN_VALUE / 10) { // CHECKSTYLE IGNORE MagicNumber
+                    return NOT_PLAIN;
+                }
+                result *= 10; // CHECKSTYLE IGNORE MagicNumber
+                if (result < Long.MIN_VALUE + (ch - '0')) {
+                    return NOT_PLAIN;
+                }
+                result -= ch - '0';
+                digit = true;
+            } else if (ch == syntax.grouping && digit) {
+                digit = false;
+            } else {
+                return NOT_PLAIN;
+            }
+        }
+        if (!digit) {
+            return NOT_PLAIN;
+        }
+        // Long.MIN_VALUE, and its overflowing negation, is NOT_PLAIN so is left for the format
+        return negative ? result : -result;
+    }
+
     /**
      * <p>Process the parsed value, performing any further validation
      *    and type conversion required.</p>
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.io.Serializable;
+import java.text.ParsePosition;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.FormatStyle;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.validator.GenericValidator;
+
+/**
+ * <p>Abstract class for <code>java.time</code> based Date/Time validation.</p>
+ *
+ * <p>This is a <i>base</i> class for building Date / Time
+ *    Validators using <code>DateTimeFormatter</code> parsing, the
+ *    counterpart of {@link AbstractCalendarValidator} for the
+ *    <code>java.time</code> types.</p>
+ *
+ * <p>Values are always parsed strictly: the whole value has to match the
+ *    format and the fields are resolved with {@link ResolverStyle#STRICT},
+ *    so a value such as <code>2/30/2024</code> is invalid. Since a year of era
+ *    (pattern letter <code>y</code>) cannot be resolved strictly without an
+ *    era, the era defaults to the common era (CE).</p>
+ *
+ * <p>Formatters are immutable, so the formatter for each pattern and
+ *    <code>Locale</code> is created once and shared by all calls, and
+ *    instances are safe to use in a multi-threaded environment.</p>
+ *
+ * @since 1.9.1
+ */
+public abstract class AbstractTemporalValidator implements Serializable {
+
+    private static final long serialVersionUID = 4302283460577546837L;
+
+    /**
+     * Compares two field values, returning -1, 0 or +1.
+     */
+    static int compareValues(final long value, final long compare) {
+        return Long.compare(value, compare);
+    }
+
+    /**
+     * The date style to use for Locale validation, {@code null} if none.
+     */
+    private final FormatStyle dateStyle;
+
+    /**
+     * The time style to use for Locale validation, {@code null} if none.
+     */
+    private final FormatStyle timeStyle;
+
+    /**
+     * The formatters by pattern and locale, created on first use.
+     */
+    private transient volatile ConcurrentMap<AbstractFormatValidator.FormatKey, DateTimeFormatter> formatters;
+
+    /**
+     * Constructs an instance with the specified <i>date</i> and
+     * <i>time</i> style parameters.
+     *
+     * @param dateStyle the date style to use for Locale validation, {@code null} if none.
+     * @param timeStyle the time style to use for Locale validation, {@code null} if none.
+     * @throws IllegalArgumentException if both styles are {@code null}
+     */
+    protected AbstractTemporalValidator(final FormatStyle dateStyle, final FormatStyle timeStyle) {
+        if (dateStyle == null && timeStyle == null) {
+            throw new IllegalArgumentException("A date or time style is required");
+        }
+        this.dateStyle = dateStyle;
+        this.timeStyle = timeStyle;
+    }
+
+    /**
+     * <p>Creates the <code>DateTimeFormatter</code> for the specified
+     *    <i>pattern</i> and/or <code>Locale</code>.</p>
+     *
+     * @param pattern The pattern used to validate the value against or
+     *        {@code null} to use the default for the <code>Locale</code>.
+     * @param locale The locale to use for the format, system default if null.
+     * @return The <code>DateTimeFormatter</code> created.
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    protected DateTimeFormatter createFormatter(final String pattern, final Locale locale) {
+        final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        if (GenericValidator.isBlankOrNull(pattern)) {
+            builder.appendLocalized(dateStyle, timeStyle);
+            builder.parseDefaulting(ChronoField.ERA, 1);
+        } else {
+            builder.appendPattern(pattern);
+            if (needsEra(pattern)) {
+                // a strict year-of-era needs an era, while a proleptic year may be zero or negative
+                builder.parseDefaulting(ChronoField.ERA, 1);
+            }
+        }
+        return builder.toFormatter(locale == null ? Locale.getDefault(Locale.Category.FORMAT) : locale)
+                .withResolverStyle(ResolverStyle.STRICT);
+    }
+
+    /**
+     * Tests whether parsing a pattern defaults the era, as it has a year-of-era
+     * (<code>y</code>) or week-based year (<code>Y</code>) outside of quoted text.
+     *
+     * @param pattern The pattern.
+     * @return true if the era should be defaulted.
+     */
+    private static boolean needsEra(final String pattern) {
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            final char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && (ch == 'y' || ch == 'Y')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>Format a value using the default format for the default <code>Locale</code>.</p>
+     *
+     * @param value The value to be formatted.
+     * @return The value formatted as a <code>String</code>.
+     */
+    public String format(final TemporalAccessor value) {
+        return format(value, (String) null, (Locale) null);
+    }
+
+    /**
+     * <p>Format a value using the default format for the specified <code>Locale</code>.</p>
+     *
+     * @param value The value to be formatted.
+     * @param locale The locale to use for the format.
+     * @return The value formatted as a <code>String</code>.
+     */
+    public String format(final TemporalAccessor value, final Locale locale) {
+        return format(value, (String) null, locale);
+    }
+
+    /**
+     * <p>Format a value using the specified pattern.</p>
+     *
+     * @param value The value to be formatted.
+     * @param pattern The pattern used to format the value.
+     * @return The value formatted as a <code>String</code>.
+     */
+    public String format(final TemporalAccessor value, final String pattern) {
+        return format(value, pattern, (Locale) null);
+    }
+
+    /**
+     * <p>Format a value using the specified pattern and/or
+     *    <code>Locale</code>.</p>
+     *
+     * @param value The value to be formatted.
+     * @param pattern The pattern used to format the value.
+     * @param locale The locale to use for the format.
+     * @return The value formatted as a <code>String</code>.
+     */
+    public String format(final TemporalAccessor value, final String pattern, final Locale locale) {
+        if (value == null) {
+            return null;
+        }
+        return getFormatter(pattern, locale).format(value);
+    }
+
+    /**
+     * <p>Returns the <code>DateTimeFormatter</code> for the specified
+     *    <i>pattern</i> and/or <code>Locale</code>, creating it on first use.</p>
+     *
+     * @param pattern The pattern used to validate the value against or
+     *        {@code null} to use the default for the <code>Locale</code>.
+     * @param locale The locale to use for the format, system default if null.
+     * @return The <code>DateTimeFormatter</code>.
+     */
+    protected DateTimeFormatter getFormatter(final String pattern, final Locale locale) {
+        ConcurrentMap<AbstractFormatValidator.FormatKey, DateTimeFormatter> cache = formatters;
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            formatters = cache;
+        }
+        return AbstractFormatValidator.getCached(cache, GenericValidator.isBlankOrNull(pattern) ? null : pattern, locale,
+                this::createFormatter);
+    }
+
+    /**
+     * <p>Returns the query which converts a parsed value to the type validated.</p>
+     *
+     * @return The query for the type validated.
+     */
+    protected abstract TemporalQuery<?> getQuery();
+
+    /**
+     * <p>Validate using the default <code>Locale</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @return {@code true} if the value is valid.
+     */
+    public boolean isValid(final String value) {
+        return isValid(value, (String) null, (Locale) null);
+    }
+
+    /**
+     * <p>Validate using the specified <code>Locale</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale to use for the format, system default if null.
+     * @return {@code true} if the value is valid.
+     */
+    public boolean isValid(final String value, final Locale locale) {
+        return isValid(value, (String) null, locale);
+    }
+
+    /**
+     * <p>Validate using the specified <i>pattern</i>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against.
+     * @return {@code true} if the value is valid.
+     */
+    public boolean isValid(final String value, final String pattern) {
+        return isValid(value, pattern, (Locale) null);
+    }
+
+    /**
+     * <p>Validate using the specified pattern and/or <code>Locale</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @param locale The locale to use for the format, system default if null.
+     * @return {@code true} if the value is valid.
+     */
+    public boolean isValid(final String value, final String pattern, final Locale locale) {
+        return parse(value, pattern, locale, (ZoneId) null) != null;
+    }
+
+    /**
+     * <p>Parse the value using the specified pattern.</p>
+     *
+     * <p>Values which do not match the format are rejected without the
+     *    cost of a <code>DateTimeParseException</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @param locale The locale to use for the format, system default if null.
+     * @param zone The zone of the value if it has none, {@code null} if none.
+     * @return The parsed value if valid or {@code null} if invalid.
+     */
+    protected Object parse(String value, final String pattern, final Locale locale, final ZoneId zone) {
+        value = value == null ? null : value.trim();
+        if (GenericValidator.isBlankOrNull(value)) {
+            return null;
+        }
+        DateTimeFormatter formatter = getFormatter(pattern, locale);
+        if (zone != null) {
+            formatter = formatter.withZone(zone);
+        }
+        final ParsePosition pos = new ParsePosition(0);
+        final Object parsedValue = formatter.toFormat(getQuery()).parseObject(value, pos);
+        if (pos.getErrorIndex() > -1 || pos.getIndex() < value.length()) {
+            return null;
+        }
+        return parsedValue;
+    }
+}
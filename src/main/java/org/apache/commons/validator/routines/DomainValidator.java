@@ -19,8 +19,13 @@ package org.apache.commons.validator.routines;
 import java.io.Serializable;
 import java.net.IDN;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p><b>Domain name</b> validation routines.</p>
@@ -144,33 +149,105 @@ public class DomainValidator implements Serializable {
 
     }
 
+    /**
+     * Hash table of all the TLDs known to an instance, mapping each TLD to the
+     * categories it belongs to once the overrides have been applied.
+     * Lookups fold ASCII upper case and work on a region of a string, so
+     * neither a lower-case copy nor a substring of the input is needed.
+     */
+    private static final class TldTable implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private static int hash(final String str, final int start, final int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + toLowerCase(str.charAt(i));
+            }
+            return hash ^ hash >>> 16;
+        }
+
+        private static char toLowerCase(final char ch) {
+            return ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+        }
+
+        /** Open addressing slots, the size is a power of two and at most half full. */
+        private final String[] keys;
+
+        private final byte[] categories;
+
+        TldTable(final Map<String, Integer> tlds) {
+            final int size = Integer.highestOneBit(Math.max(tlds.size(), 1)) << 2;
+            keys = new String[size];
+            categories = new byte[size];
+            for (final Map.Entry<String, Integer> entry : tlds.entrySet()) {
+                final String key = entry.getKey();
+                int slot = hash(key, 0, key.length()) & size - 1;
+                while (keys[slot] != null) {
+                    slot = slot + 1 & size - 1;
+                }
+                keys[slot] = key;
+                categories[slot] = entry.getValue().byteValue();
+            }
+        }
+
+        /**
+         * Gets the categories of a TLD.
+         *
+         * @param str the string containing the TLD, all ASCII or lower-case
+         * @param start the index of the first character of the TLD
+         * @param end the index after the last character of the TLD
+         * @return the categories of the TLD, or 0 if it is not known
+         */
+        int get(final String str, final int start, final int end) {
+            final int length = end - start;
+            int slot = hash(str, start, end) & keys.length - 1;
+            String key;
+            while ((key = keys[slot]) != null) {
+                if (key.length() == length && matches(key, str, start)) {
+                    return categories[slot];
+                }
+                slot = slot + 1 & keys.length - 1;
+            }
+            return 0;
+        }
+
+        private boolean matches(final String key, final String str, final int start) {
+            for (int i = 0; i < key.length(); i++) {
+                if (key.charAt(i) != toLowerCase(str.charAt(start + i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     /** Maximum allowable length ({@value}) of a domain name */
     private static final int MAX_DOMAIN_LENGTH = 253;
 
     private static final String[] EMPTY_STRING_ARRAY = {};
 
+    // TLD categories held by the TldTable
+    private static final int INFRASTRUCTURE_TLD = 1;
+    private static final int GENERIC_TLD = 2;
+    private static final int COUNTRY_CODE_TLD = 4;
+    private static final int LOCAL_TLD = 8;
+
     private static final long serialVersionUID = -4407125112880174009L;
 
     // RFC2396: domainlabel   = alphanum | alphanum *( alphanum | "-" ) alphanum
-    // Max 63 characters
-    private static final String DOMAIN_LABEL_REGEX = "\\p{Alnum}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
-
     // RFC2396 toplabel = alpha | alpha *( alphanum | "-" ) alphanum
-    // Max 63 characters
-    private static final String TOP_LABEL_REGEX = "\\p{Alpha}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+    /** Maximum allowable length ({@value}) of a domain label */
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    /** Maximum number ({@value}) of Unicode domain names whose ASCII form is cached */
+    private static final int MAX_CACHED_IDNS = 1000;
 
     /**
      * The above instances must only be returned via the getInstance() methods.
      * This is to ensure that the override data arrays are properly protected.
      */
 
-    // RFC2396 hostname = *( domainlabel "." ) toplabel [ "." ]
-    // Note that the regex currently requires both a domain label and a top level label, whereas
-    // the RFC does not. This is because the regex is used to detect if a TLD is present.
-    // If the match fails, input is checked against DOMAIN_LABEL_REGEX (hostnameRegex)
-    // RFC1123 sec 2.1 allows hostnames to start with a digit
-    private static final String DOMAIN_NAME_REGEX =
-            "^(?:" + DOMAIN_LABEL_REGEX + "\\.)+" + "(" + TOP_LABEL_REGEX + ")\\.?$";
     private static final String UNEXPECTED_ENUM_VALUE = "Unexpected enum value: ";
 
     // WARNING: this array MUST be sorted, otherwise it cannot be searched reliably using binary search
@@ -1800,15 +1877,21 @@ public class DomainValidator implements Serializable {
     // WARNING: this array MUST be sorted, otherwise it cannot be searched reliably using binary search
     private static String[] localTLDsPlus = EMPTY_STRING_ARRAY;
 
+    // The conversions done by unicodeToASCII. The conversion does not depend on any setting,
+    // so the cache is shared. When it is full an arbitrary entry is dropped to make room.
+    private static final ConcurrentMap<String, String> IDN_CACHE = new ConcurrentHashMap<>();
+
     /**
-     * Check if a sorted array contains the specified key
+     * Adds a category to each of the given TLDs.
      *
-     * @param sortedArray the array to search
-     * @param key the key to find
-     * @return {@code true} if the array contains the key
+     * @param tlds the map of TLDs to categories to update
+     * @param keys the lower-case TLDs
+     * @param category the category to add
      */
-    private static boolean arrayContains(final String[] sortedArray, final String key) {
-        return Arrays.binarySearch(sortedArray, key) >= 0;
+    private static void addCategory(final Map<String, Integer> tlds, final String[] keys, final int category) {
+        for (final String key : keys) {
+            tlds.merge(key, category, (a, b) -> a | b);
+        }
     }
 
     /**
@@ -1900,6 +1983,14 @@ public class DomainValidator implements Serializable {
         return Arrays.copyOf(array, array.length); // clone the array
     }
 
+    private static boolean isAlpha(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z';
+    }
+
+    private static boolean isAlphanumeric(final char ch) {
+        return isAlpha(ch) || ch >= '0' && ch <= '9';
+    }
+
     /*
      * Check if input contains only ASCII
      * Treats null as all ASCII
@@ -1919,6 +2010,7 @@ public class DomainValidator implements Serializable {
     /**
      * Converts potentially Unicode input to punycode.
      * If conversion fails, returns the original input.
+     * The conversions of recurring Unicode names are cached.
      *
      * @param input the string to convert, not null
      * @return converted input, or original input if conversion fails
@@ -1928,6 +2020,28 @@ public class DomainValidator implements Serializable {
         if (isOnlyASCII(input)) { // skip possibly expensive processing
             return input;
         }
+        String ascii = IDN_CACHE.get(input);
+        if (ascii == null) {
+            ascii = toASCII(input);
+            if (IDN_CACHE.size() >= MAX_CACHED_IDNS) {
+                final Iterator<String> keys = IDN_CACHE.keySet().iterator();
+                if (keys.hasNext()) {
+                    IDN_CACHE.remove(keys.next());
+                }
+            }
+            IDN_CACHE.put(input, ascii);
+        }
+        return ascii;
+    }
+
+    /**
+     * Converts Unicode input to punycode with {@link IDN#toASCII(String)}.
+     * If conversion fails, returns the original input.
+     *
+     * @param input the string to convert, not null
+     * @return converted input, or original input if conversion fails
+     */
+    private static String toASCII(final String input) {
         try {
             final String ascii = IDN.toASCII(input);
             if (IDNBUGHOLDER.IDN_TOASCII_PRESERVES_TRAILING_DOTS) {
@@ -1957,6 +2071,43 @@ public class DomainValidator implements Serializable {
         }
     }
 
+    /**
+     * Scans the syntax of a domain name. The domain name either has the form
+     * <code>*( domainlabel "." ) toplabel [ "." ]</code> of RFC2396 with at
+     * least one domain label, or is a single domain label, as RFC1123 sec 2.1
+     * allows hostnames to start with a digit. Labels are at most 63 characters.
+     *
+     * @param domain the string containing the ASCII domain name, not null
+     * @param start the index of the first character of the domain name
+     * @param end the index after the last character of the domain name
+     * @return the index of the top label, <code>start</code> if the domain
+     * name is a single domain label or -1 if the syntax is not valid
+     */
+    private static int scanDomain(final String domain, final int start, final int end) {
+        // a trailing dot is only allowed after a top label
+        final int last = end > start && domain.charAt(end - 1) == '.' ? end - 1 : end;
+        int labelStart = start;
+        for (int i = start; i <= last; i++) {
+            final char ch = i < last ? domain.charAt(i) : '.';
+            if (ch == '.') {
+                final int labelLength = i - labelStart;
+                if (labelLength == 0 || labelLength > MAX_LABEL_LENGTH
+                        || !isAlphanumeric(domain.charAt(labelStart)) || !isAlphanumeric(domain.charAt(i - 1))) {
+                    return -1;
+                }
+                if (i < last) {
+                    labelStart = i + 1;
+                }
+            } else if (!isAlphanumeric(ch) && ch != '-') {
+                return -1;
+            }
+        }
+        if (labelStart == start) {
+            return last == end ? start : -1;
+        }
+        return isAlpha(domain.charAt(labelStart)) ? labelStart : -1;
+    }
+
     /**
      * Update one of the TLD override arrays.
      * This must only be done at program startup, before any instances are accessed using getInstance.
@@ -2038,19 +2189,6 @@ public class DomainValidator implements Serializable {
     // .bl  country-code    Not assigned
     // .um  country-code    Not assigned
 
-    /**
-     * RegexValidator for matching domains.
-     */
-    private final RegexValidator domainRegex =
-            new RegexValidator(DOMAIN_NAME_REGEX);
-
-    /**
-     * RegexValidator for matching a local hostname
-     */
-    // RFC1123 sec 2.1 allows hostnames to start with a digit
-    private final RegexValidator hostnameRegex =
-            new RegexValidator(DOMAIN_LABEL_REGEX);
-
     /** Local override. */
     final String[] myCountryCodeTLDsMinus;
 
@@ -2072,6 +2210,9 @@ public class DomainValidator implements Serializable {
     /** Local override. */
     final String[] myLocalTLDsMinus;
 
+    /** The built in TLDs merged with the overrides. */
+    private final TldTable tldTable;
+
     /*
      * It is vital that instances are immutable. This is because the default instances are shared.
      */
@@ -2088,6 +2229,7 @@ public class DomainValidator implements Serializable {
         myGenericTLDsMinus = genericTLDsMinus;
         myLocalTLDsPlus = localTLDsPlus;
         myLocalTLDsMinus = localTLDsMinus;
+        tldTable = createTldTable();
     }
 
     /**
@@ -2150,13 +2292,55 @@ public class DomainValidator implements Serializable {
         myGenericTLDsPlus = genPlus;
         myLocalTLDsMinus = localMinus;
         myLocalTLDsPlus = localPlus;
+        tldTable = createTldTable();
+    }
+
+    /**
+     * Removes a category from each of the given TLDs.
+     *
+     * @param tlds the map of TLDs to categories to update
+     * @param keys the lower-case TLDs
+     * @param category the category to remove
+     */
+    private static void removeCategory(final Map<String, Integer> tlds, final String[] keys, final int category) {
+        for (final String key : keys) {
+            tlds.computeIfPresent(key, (k, v) -> v & ~category);
+        }
+    }
+
+    /**
+     * Merges the built in TLDs with the overrides of this instance.
+     * The MINUS overrides are applied last, so they take precedence over the PLUS overrides.
+     */
+    private TldTable createTldTable() {
+        final Map<String, Integer> tlds = new HashMap<>();
+        addCategory(tlds, INFRASTRUCTURE_TLDS, INFRASTRUCTURE_TLD);
+        addCategory(tlds, GENERIC_TLDS, GENERIC_TLD);
+        addCategory(tlds, myGenericTLDsPlus, GENERIC_TLD);
+        removeCategory(tlds, myGenericTLDsMinus, GENERIC_TLD);
+        addCategory(tlds, COUNTRY_CODE_TLDS, COUNTRY_CODE_TLD);
+        addCategory(tlds, myCountryCodeTLDsPlus, COUNTRY_CODE_TLD);
+        removeCategory(tlds, myCountryCodeTLDsMinus, COUNTRY_CODE_TLD);
+        addCategory(tlds, LOCAL_TLDS, LOCAL_TLD);
+        addCategory(tlds, myLocalTLDsPlus, LOCAL_TLD);
+        removeCategory(tlds, myLocalTLDsMinus, LOCAL_TLD);
+        return new TldTable(tlds);
     }
 
-    private String chompLeadingDot(final String str) {
-        if (str.startsWith(".")) {
-            return str.substring(1);
+    /**
+     * Gets the categories of a TLD. A leading dot is ignored if present.
+     *
+     * @param tld the TLD, not null
+     * @return the categories of the TLD, or 0 if it is not known
+     */
+    private int getTldCategories(final String tld) {
+        String key = unicodeToASCII(tld);
+        if (!isOnlyASCII(key)) {
+            // the conversion failed, fold the case as the TLD lists did before
+            key = key.toLowerCase(Locale.ENGLISH);
         }
-        return str;
+        final int start = key.startsWith(".") ? 1 : 0;
+        return tldTable.get(key, start, key.length());
     }
 
     /**
@@ -2210,23 +2394,48 @@ public class DomainValidator implements Serializable {
      * @param domain the parameter to check for domain name syntax
      * @return true if the parameter is a valid domain name
      */
-    public boolean isValid(String domain) {
+    public boolean isValid(final String domain) {
         if (domain == null) {
             return false;
         }
-        domain = unicodeToASCII(domain);
+        return isValidASCII(unicodeToASCII(domain));
+    }
+
+    /**
+     * Checks a domain name that has already been converted with {@link #unicodeToASCII(String)}.
+     *
+     * @param domain the converted domain name, not null
+     * @return true if the parameter is a valid domain name
+     */
+    // Needed by EmailValidator
+    final boolean isValidASCII(final String domain) {
+        return isValidASCII(domain, 0, domain.length());
+    }
+
+    /**
+     * Checks a domain name that has already been converted with {@link #unicodeToASCII(String)}
+     * and is part of a larger string.
+     *
+     * @param str the string containing the converted domain name, not null
+     * @param start the index of the first character of the domain name
+     * @param end the index after the last character of the domain name
+     * @return true if the region is a valid domain name
+     */
+    // Needed by UrlValidator
+    final boolean isValidASCII(final String str, final int start, final int end) {
         // hosts must be equally reachable via punycode and Unicode
         // Unicode is never shorter than punycode, so check punycode
         // if domain did not convert, then it will be caught by ASCII
-        // checks in the regexes below
-        if (domain.length() > MAX_DOMAIN_LENGTH) {
+        // checks of the scanner below
+        if (end - start > MAX_DOMAIN_LENGTH) {
             return false;
         }
-        final String[] groups = domainRegex.match(domain);
-        if (groups != null && groups.length > 0) {
-            return isValidTld(groups[0]);
+        final int tldStart = scanDomain(str, start, end);
+        if (tldStart > start) {
+            final int tldEnd = str.charAt(end - 1) == '.' ? end - 1 : end;
+            return isValidTld(tldTable.get(str, tldStart, tldEnd));
         }
-        return allowLocal && hostnameRegex.isValid(domain);
+        return allowLocal && tldStart == start;
     }
 
     /**
@@ -2237,8 +2446,7 @@ public class DomainValidator implements Serializable {
      * @return true if the parameter is a country code TLD
      */
     public boolean isValidCountryCodeTld(final String ccTld) {
-        final String key = chompLeadingDot(unicodeToASCII(ccTld).toLowerCase(Locale.ENGLISH));
-        return (arrayContains(COUNTRY_CODE_TLDS, key) || arrayContains(myCountryCodeTLDsPlus, key)) && !arrayContains(myCountryCodeTLDsMinus, key);
+        return (getTldCategories(ccTld) & COUNTRY_CODE_TLD) != 0;
     }
 
     // package protected for unit test access
@@ -2251,12 +2459,11 @@ public class DomainValidator implements Serializable {
         // hosts must be equally reachable via punycode and Unicode
         // Unicode is never shorter than punycode, so check punycode
         // if domain did not convert, then it will be caught by ASCII
-        // checks in the regexes below
+        // checks of the scanner below
         if (domain.length() > MAX_DOMAIN_LENGTH) {
             return false;
         }
-        final String[] groups = domainRegex.match(domain);
-        return groups != null && groups.length > 0 || hostnameRegex.isValid(domain);
+        return scanDomain(domain, 0, domain.length()) >= 0;
     }
     /**
      * Returns true if the specified <code>String</code> matches any
@@ -2266,8 +2473,7 @@ public class DomainValidator implements Serializable {
      * @return true if the parameter is a generic TLD
      */
     public boolean isValidGenericTld(final String gTld) {
-        final String key = chompLeadingDot(unicodeToASCII(gTld).toLowerCase(Locale.ENGLISH));
-        return (arrayContains(GENERIC_TLDS, key) || arrayContains(myGenericTLDsPlus, key)) && !arrayContains(myGenericTLDsMinus, key);
+        return (getTldCategories(gTld) & GENERIC_TLD) != 0;
     }
 
     /**
@@ -2278,8 +2484,7 @@ public class DomainValidator implements Serializable {
      * @return true if the parameter is an infrastructure TLD
      */
     public boolean isValidInfrastructureTld(final String iTld) {
-        final String key = chompLeadingDot(unicodeToASCII(iTld).toLowerCase(Locale.ENGLISH));
-        return arrayContains(INFRASTRUCTURE_TLDS, key);
+        return (getTldCategories(iTld) & INFRASTRUCTURE_TLD) != 0;
     }
 
     /**
@@ -2290,9 +2495,7 @@ public class DomainValidator implements Serializable {
      * @return true if the parameter is an local TLD
      */
     public boolean isValidLocalTld(final String lTld) {
-        final String key = chompLeadingDot(unicodeToASCII(lTld).toLowerCase(Locale.ENGLISH));
-        return (arrayContains(LOCAL_TLDS, key) || arrayContains(myLocalTLDsPlus, key))
-                && !arrayContains(myLocalTLDsMinus, key);
+        return (getTldCategories(lTld) & LOCAL_TLD) != 0;
     }
 
     /**
@@ -2307,11 +2510,33 @@ public class DomainValidator implements Serializable {
      * @return true if the parameter is a TLD
      */
     public boolean isValidTld(final String tld) {
-        if (allowLocal && isValidLocalTld(tld)) {
+        return isValidTld(getTldCategories(tld));
+    }
+
+    /**
+     * Checks an ASCII TLD without a leading dot that is part of a larger string,
+     * as {@link #isValidTld(String)} does.
+     *
+     * @param str the string containing the TLD, not null
+     * @param start the index of the first character of the TLD
+     * @param end the index after the last character of the TLD
+     * @return true if the region is a valid TLD
+     */
+    // Needed by EmailValidator
+    final boolean isValidTld(final String str, final int start, final int end) {
+        return isValidTld(tldTable.get(str, start, end));
+    }
+
+    /**
+     * Checks if a TLD with the given categories is valid for this instance.
+     *
+     * @param categories the categories of the TLD
+     * @return true if the categories make up a valid TLD
+     */
+    private boolean isValidTld(final int categories) {
+        if (allowLocal && (categories & LOCAL_TLD) != 0) {
             return true;
         }
-        return isValidInfrastructureTld(tld)
-                || isValidGenericTld(tld)
-                || isValidCountryCodeTld(tld);
+        return (categories & (INFRASTRUCTURE_TLD | GENERIC_TLD | COUNTRY_CODE_TLD)) != 0;
     }
 }
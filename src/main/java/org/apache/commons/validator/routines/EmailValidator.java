@@ -16,9 +16,18 @@
  */
 package org.apache.commons.validator.routines;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * <p>Perform email validations.</p>
@@ -34,6 +43,107 @@ import java.util.regex.Pattern;
  */
 public class EmailValidator implements Serializable {
 
+    /**
+     * The results of validating a list of email addresses with
+     * {@link EmailValidator#validate(Iterable)}: the verdict on each address,
+     * in the order of the list, and the number of addresses with each verdict.
+     *
+     * @since 1.9.1
+     */
+    public static final class BulkResult {
+
+        private static final Verdict[] VERDICTS = Verdict.values();
+
+        private final int[] counts = new int[VERDICTS.length];
+
+        private byte[] verdicts = new byte[64]; // CHECKSTYLE IGNORE MagicNumber
+
+        private int size;
+
+        private BulkResult() {
+        }
+
+        private void add(final Verdict verdict) {
+            if (size == verdicts.length) {
+                verdicts = Arrays.copyOf(verdicts, 2 * size);
+            }
+            verdicts[size++] = (byte) verdict.ordinal();
+            counts[verdict.ordinal()]++;
+        }
+
+        /**
+         * Gets the number of addresses with a verdict.
+         *
+         * @param verdict the verdict
+         * @return the number of addresses with the verdict
+         */
+        public int getCount(final Verdict verdict) {
+            return counts[verdict.ordinal()];
+        }
+
+        /**
+         * Gets the verdict on an address.
+         *
+         * @param index the index of the address in the list
+         * @return the verdict on the address
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public Verdict getVerdict(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return VERDICTS[verdicts[index]];
+        }
+
+        /**
+         * Gets the verdicts on the addresses, in the order of the list.
+         *
+         * @return an unmodifiable view of the verdicts
+         */
+        public List<Verdict> getVerdicts() {
+            return new AbstractList<Verdict>() {
+                @Override
+                public Verdict get(final int index) {
+                    return getVerdict(index);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+
+        /**
+         * Gets the number of addresses that were validated.
+         *
+         * @return the number of addresses
+         */
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * The verdict on an email address validated with {@link EmailValidator#validate(Iterable)}.
+     *
+     * @since 1.9.1
+     */
+    public enum Verdict {
+        /** The address is valid. */
+        VALID,
+        /** The address is null, ends with a dot or does not have the form user@domain. */
+        MALFORMED,
+        /** The user name is not valid. */
+        BAD_USER,
+        /** The domain is neither a valid domain name nor an IP address in brackets. */
+        BAD_DOMAIN,
+        /** The domain is a valid domain name but its top level domain is not known. */
+        BAD_TLD,
+        /** The user name is longer than 64 characters or the domain name longer than 253. */
+        TOO_LONG
+    }
+
     private static final long serialVersionUID = 1705927040799295880L;
 
     private static final String SPECIAL_CHARS = "\\p{Cntrl}\\(\\)<>@,;:'\\\\\\\"\\.\\[\\]";
@@ -51,6 +161,22 @@ public class EmailValidator implements Serializable {
 
     private static final int MAX_USERNAME_LEN = 64;
 
+    private static final int MAX_DOMAIN_LEN = 253;
+
+    /** The maximum number of domain verdicts kept while validating a list of addresses. */
+    private static final int DOMAIN_CACHE_SIZE = 10_000;
+
+    /** The characters of an atom in the local part that are checked without the USER_PATTERN. */
+    private static final String ATOM_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789!#$%&'*+-/=?^_`{|}~";
+
+    private static final boolean[] ATOM_TABLE = new boolean[0x80]; // CHECKSTYLE IGNORE MagicNumber
+
+    static {
+        for (int i = 0; i < ATOM_CHARS.length(); i++) {
+            ATOM_TABLE[ATOM_CHARS.charAt(i)] = true;
+        }
+    }
+
     /**
      * Singleton instance of this class, which
      *  doesn't consider local addresses as valid.
@@ -120,6 +246,13 @@ public class EmailValidator implements Serializable {
 
     private final DomainValidator domainValidator;
 
+    /**
+     * Whether addresses can be checked by scanning them instead of with the patterns,
+     * which is only the case if {@link #isValidUser(String)} and {@link #isValidDomain(String)}
+     * are not overridden.
+     */
+    private final boolean fastPath = getClass() == EmailValidator.class;
+
     /**
      * Protected constructor for subclasses to use.
      *
@@ -174,6 +307,14 @@ public class EmailValidator implements Serializable {
         if (email.endsWith(".")) { // check this first - it's cheap!
             return false;
         }
+        if (fastPath) {
+            // a local part that is a dot-atom of ASCII characters cannot contain the '@'
+            // or a line terminator, so EMAIL_PATTERN would split the address at the last '@'
+            final int at = email.lastIndexOf('@');
+            if (at > 0 && isDotAtom(email, at)) {
+                return at <= MAX_USERNAME_LEN && isValidDomain(email, at + 1);
+            }
+        }
         // Check the whole email address structure
         final Matcher emailMatcher = EMAIL_PATTERN.matcher(email);
         if (!emailMatcher.matches()) {
@@ -188,6 +329,209 @@ public class EmailValidator implements Serializable {
         return true;
     }
 
+    /**
+     * Creates the cache of domain verdicts used while validating a list of addresses.
+     *
+     * @return a map that keeps the verdicts on the most recently used domains
+     */
+    private static Map<String, Verdict> createDomainCache() {
+        return new LinkedHashMap<String, Verdict>(16, 0.75f, true) { // CHECKSTYLE IGNORE MagicNumber
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Verdict> eldest) {
+                return size() > DOMAIN_CACHE_SIZE;
+            }
+        };
+    }
+
+    /**
+     * Tests whether a character matches the regular expression <code>\s</code>.
+     */
+    private static boolean isWhitespace(final char ch) {
+        return ch == ' ' || ch >= '\t' && ch <= '\r';
+    }
+
+    /**
+     * Tests whether the start of an email address is a dot-atom of ASCII characters,
+     * which the USER_PATTERN matches. Other local parts are left to the patterns.
+     *
+     * @param email the email address
+     * @param end the index of the '@' after the local part
+     * @return true if the local part is a dot-atom
+     */
+    private static boolean isDotAtom(final String email, final int end) {
+        boolean atomStart = true;
+        for (int i = 0; i < end; i++) {
+            final char ch = email.charAt(i);
+            if (ch == '.') {
+                if (atomStart) {
+                    return false;
+                }
+                atomStart = true;
+            } else if (ch < ATOM_TABLE.length && ATOM_TABLE[ch]) {
+                atomStart = false;
+            } else {
+                return false;
+            }
+        }
+        return !atomStart;
+    }
+
+    /**
+     * Checks the domain at the end of an email address, as EMAIL_PATTERN and
+     * {@link #isValidDomain(String)} do, without copying it unless it is an
+     * IP address in brackets or has non-ASCII characters.
+     *
+     * @param email the email address
+     * @param start the index after the '@'
+     * @return true if the domain is valid
+     */
+    private boolean isValidDomain(final String email, final int start) {
+        final int end = email.length();
+        if (start == end) {
+            return false;
+        }
+        boolean ascii = true;
+        for (int i = start; i < end; i++) {
+            final char ch = email.charAt(i);
+            if (isWhitespace(ch)) {
+                return false; // not matched by \S
+            }
+            if (ch >= 0x80) { // CHECKSTYLE IGNORE MagicNumber
+                ascii = false;
+            }
+        }
+        if (!ascii || email.charAt(start) == '[') {
+            return isValidDomain(email.substring(start));
+        }
+        if (allowTld) {
+            return domainValidator.isValidASCII(email, start, end) || email.charAt(start) != '.' && domainValidator.isValidTld(email, start, end);
+        }
+        return domainValidator.isValidASCII(email, start, end);
+    }
+
+    /**
+     * <p>Validates a list of email addresses.</p>
+     *
+     * An address is valid if {@link #isValid(String)} returns true for it. The
+     * verdict on each domain is kept while the list is validated, so a domain
+     * that appears in many addresses is only checked once.
+     *
+     * @param emails the email addresses
+     * @return the verdicts on the addresses
+     * @since 1.9.1
+     */
+    public BulkResult validate(final Iterable<String> emails) {
+        final BulkResult result = new BulkResult();
+        final Map<String, Verdict> domains = createDomainCache();
+        for (final String email : emails) {
+            result.add(getVerdict(email, domains));
+        }
+        return result;
+    }
+
+    /**
+     * <p>Validates the email addresses read from a Reader, one per line.</p>
+     *
+     * Each line is validated as {@link #validate(Iterable)} validates an address.
+     * The Reader is not closed.
+     *
+     * @param reader the Reader to read the email addresses from
+     * @return the verdicts on the lines
+     * @throws IOException if the addresses cannot be read
+     * @since 1.9.1
+     */
+    public BulkResult validate(final Reader reader) throws IOException {
+        final BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        final BulkResult result = new BulkResult();
+        final Map<String, Verdict> domains = createDomainCache();
+        String email;
+        while ((email = lines.readLine()) != null) {
+            result.add(getVerdict(email, domains));
+        }
+        return result;
+    }
+
+    /**
+     * <p>Validates a stream of email addresses.</p>
+     *
+     * The addresses are validated in the order of the stream, as
+     * {@link #validate(Iterable)} validates a list.
+     *
+     * @param emails the email addresses
+     * @return the verdicts on the addresses
+     * @since 1.9.1
+     */
+    public BulkResult validate(final Stream<String> emails) {
+        final BulkResult result = new BulkResult();
+        final Map<String, Verdict> domains = createDomainCache();
+        emails.sequential().forEachOrdered(email -> result.add(getVerdict(email, domains)));
+        return result;
+    }
+
+    /**
+     * Classifies a domain that {@link #isValidDomain(String)} rejected.
+     *
+     * @param domain the domain
+     * @return the verdict on the domain
+     */
+    private Verdict getDomainFailure(final String domain) {
+        if (domain.startsWith("[")) {
+            return Verdict.BAD_DOMAIN;
+        }
+        if (DomainValidator.unicodeToASCII(domain).length() > MAX_DOMAIN_LEN) {
+            return Verdict.TOO_LONG;
+        }
+        return domainValidator.isValidDomainSyntax(domain) ? Verdict.BAD_TLD : Verdict.BAD_DOMAIN;
+    }
+
+    /**
+     * Validates an email address, giving the reason if it is not valid.
+     *
+     * @param email the email address
+     * @param domains the verdicts on the domains seen before
+     * @return the verdict on the email address, which is {@link Verdict#VALID}
+     * if {@link #isValid(String)} returns true for it
+     */
+    private Verdict getVerdict(final String email, final Map<String, Verdict> domains) {
+        if (email == null || email.endsWith(".")) {
+            return Verdict.MALFORMED;
+        }
+        final String domain;
+        final int at = email.lastIndexOf('@');
+        if (fastPath && at > 0 && isDotAtom(email, at)) {
+            if (at > MAX_USERNAME_LEN) {
+                return Verdict.TOO_LONG;
+            }
+            for (int i = at + 1; i < email.length(); i++) {
+                if (isWhitespace(email.charAt(i))) {
+                    return Verdict.MALFORMED;
+                }
+            }
+            if (at + 1 == email.length()) {
+                return Verdict.MALFORMED;
+            }
+            domain = email.substring(at + 1);
+        } else {
+            final Matcher emailMatcher = EMAIL_PATTERN.matcher(email);
+            if (!emailMatcher.matches()) {
+                return Verdict.MALFORMED;
+            }
+            final String user = emailMatcher.group(1);
+            if (!isValidUser(user)) {
+                return user.length() > MAX_USERNAME_LEN ? Verdict.TOO_LONG : Verdict.BAD_USER;
+            }
+            domain = emailMatcher.group(2);
+        }
+        Verdict verdict = domains.get(domain);
+        if (verdict == null) {
+            verdict = isValidDomain(domain) ? Verdict.VALID : getDomainFailure(domain);
+            domains.put(domain, verdict);
+        }
+        return verdict;
+    }
+
     /**
      * Returns true if the domain component of an email address is valid.
      *
@@ -205,7 +549,9 @@ public class EmailValidator implements Serializable {
         }
         // Domain is symbolic name
         if (allowTld) {
-            return domainValidator.isValid(domain) || !domain.startsWith(".") && domainValidator.isValidTld(domain);
+            // convert once for both checks
+            final String domainASCII = DomainValidator.unicodeToASCII(domain);
+            return domainValidator.isValidASCII(domainASCII) || !domain.startsWith(".") && domainValidator.isValidTld(domainASCII);
         }
         return domainValidator.isValid(domain);
     }
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * <p><b>InetAddress</b> range validation.</p>
+ *
+ * <p>Validates that a string is an IPv4 or IPv6 address, as {@link InetAddressValidator}
+ * does, and that it lies within one of a set of address ranges. The ranges are given in
+ * CIDR notation, for example <code>"10.0.0.0/8"</code> or <code>"2001:db8::/32"</code>;
+ * a range without a prefix size contains a single address.</p>
+ *
+ * <pre>
+ * <code>
+ * InetAddressRangeValidator validator = new InetAddressRangeValidator("10.0.0.0/8", "fd00::/8");
+ * boolean allowed = validator.isValid(address);
+ * </code>
+ * </pre>
+ *
+ * <p>The ranges of each address family are compiled into a binary trie, so an address
+ * is parsed once and the lookup visits at most one node per bit of its prefix. IPv4
+ * addresses are only matched against IPv4 ranges and IPv6 addresses, including IPv4
+ * mapped ones, against IPv6 ranges. An IPv6 address with a prefix size, such as
+ * <code>"2001:db8::/48"</code>, is within the ranges if the whole network it denotes is.</p>
+ *
+ * <p>Instances are immutable and safe to use in a multi-threaded environment.</p>
+ *
+ * @since 1.9.1
+ */
+public class InetAddressRangeValidator implements Serializable {
+
+    /**
+     * A binary trie of address prefixes. An address is a 128 bit number held in two
+     * longs, with IPv4 addresses in the top 32 bits.
+     */
+    private static final class Trie implements Serializable {
+
+        private static final long serialVersionUID = 2968151617640046217L;
+
+        /** The children of each node, two per node; 0 if there is none since the root is no child. */
+        private int[] children = new int[2 * INITIAL_NODES];
+
+        /** Whether the prefix of each node is one of the ranges. */
+        private boolean[] terminal = new boolean[INITIAL_NODES];
+
+        /** The number of nodes. */
+        private int size = 1;
+
+        /**
+         * Adds a range.
+         *
+         * @param high the top 64 bits of the address
+         * @param low the bottom 64 bits of the address
+         * @param bits the prefix size
+         */
+        void add(final long high, final long low, final int bits) {
+            int node = 0;
+            for (int i = 0; i < bits && !terminal[node]; i++) {
+                final int child = 2 * node + bit(high, low, i);
+                if (children[child] == 0) {
+                    if (size == terminal.length) {
+                        terminal = Arrays.copyOf(terminal, 2 * size);
+                        children = Arrays.copyOf(children, 4 * size); // CHECKSTYLE IGNORE MagicNumber
+                    }
+                    children[child] = size++;
+                }
+                node = children[child];
+            }
+            terminal[node] = true;
+        }
+
+        /**
+         * Tests whether an address prefix is within the ranges.
+         *
+         * @param high the top 64 bits of the address
+         * @param low the bottom 64 bits of the address
+         * @param bits the prefix size
+         * @return true if a range contains the prefix
+         */
+        boolean contains(final long high, final long low, final int bits) {
+            int node = 0;
+            for (int i = 0; i < bits; i++) {
+                if (terminal[node]) {
+                    return true;
+                }
+                node = children[2 * node + bit(high, low, i)];
+                if (node == 0) {
+                    return false;
+                }
+            }
+            return terminal[node];
+        }
+
+        /**
+         * Releases the space allocated for nodes that were not added.
+         */
+        void trim() {
+            terminal = Arrays.copyOf(terminal, size);
+            children = Arrays.copyOf(children, 2 * size);
+        }
+    }
+
+    private static final long serialVersionUID = -3150913208743545812L;
+
+    private static final int INITIAL_NODES = 64;
+
+    private static final int IPV4_BITS = 32;
+
+    private static final int IPV6_BITS = 128;
+
+    private static final int IPV6_BYTES = 16;
+
+    private static final int LONG_BITS = 64;
+
+    private static final int BITS_PER_BYTE = 8;
+
+    private static final int BASE_10 = 10;
+
+    /**
+     * Gets bit i of a 128 bit number, counting from the most significant bit.
+     */
+    private static int bit(final long high, final long low, final int i) {
+        return (int) ((i < LONG_BITS ? high >>> LONG_BITS - 1 - i : low >>> IPV6_BITS - 1 - i) & 1);
+    }
+
+    /**
+     * Gets 64 bits of an IPv6 address in network byte order.
+     */
+    private static long toLong(final byte[] address, final int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + BITS_PER_BYTE; i++) {
+            value = value << BITS_PER_BYTE | address[i] & 0xFF;
+        }
+        return value;
+    }
+
+    /**
+     * Gets the prefix size of a valid IPv6 address.
+     *
+     * @return the prefix size, or 128 if there is none
+     */
+    private static int prefixSize(final String inet6Address) {
+        final int slash = inet6Address.indexOf('/');
+        if (slash < 0) {
+            return IPV6_BITS;
+        }
+        int bits = 0;
+        for (int i = slash + 1; i < inet6Address.length(); i++) {
+            bits = bits * BASE_10 + inet6Address.charAt(i) - '0';
+        }
+        return bits;
+    }
+
+    /**
+     * Parses the prefix size of an IPv4 range.
+     */
+    private static int parsePrefixSize(final String range, final int start, final int max) {
+        int bits = 0;
+        for (int i = start; i < range.length(); i++) {
+            final char ch = range.charAt(i);
+            if (ch < '0' || ch > '9' || i - start > 1) {
+                bits = -1;
+                break;
+            }
+            bits = bits * BASE_10 + ch - '0';
+        }
+        if (start == range.length() || bits < 0 || bits > max) {
+            throw new IllegalArgumentException("Address range '" + range + "' has an invalid prefix size");
+        }
+        return bits;
+    }
+
+    private final String[] ranges;
+
+    private final Trie inet4Ranges = new Trie();
+
+    private final Trie inet6Ranges = new Trie();
+
+    /**
+     * Constructs a validator for a set of address ranges.
+     *
+     * @param ranges the IPv4 and IPv6 address ranges in CIDR notation. Any bits
+     * of an address after its prefix size are ignored.
+     * @throws IllegalArgumentException if the ranges are missing or one of them is not valid
+     */
+    public InetAddressRangeValidator(final String... ranges) {
+        if (ranges == null || ranges.length == 0) {
+            throw new IllegalArgumentException("Address ranges are missing");
+        }
+        final InetAddressValidator validator = InetAddressValidator.getInstance();
+        final byte[] address = new byte[IPV6_BYTES];
+        for (int i = 0; i < ranges.length; i++) {
+            final String range = ranges[i];
+            if (range == null || range.isEmpty()) {
+                throw new IllegalArgumentException("Address range[" + i + "] is missing");
+            }
+            final int slash = range.indexOf('/');
+            final long inet4 = validator.parseInet4Address(slash < 0 ? range : range.substring(0, slash));
+            if (inet4 >= 0) {
+                final int bits = slash < 0 ? IPV4_BITS : parsePrefixSize(range, slash + 1, IPV4_BITS);
+                inet4Ranges.add(inet4 << IPV4_BITS, 0, bits);
+            } else if (range.indexOf('%') < 0 && validator.parseInet6Address(range, address)) {
+                inet6Ranges.add(toLong(address, 0), toLong(address, BITS_PER_BYTE), prefixSize(range));
+            } else {
+                throw new IllegalArgumentException("Address range[" + i + "] '" + range + "' is not valid");
+            }
+        }
+        inet4Ranges.trim();
+        inet6Ranges.trim();
+        this.ranges = ranges.clone();
+    }
+
+    /**
+     * Gets a copy of the address ranges.
+     *
+     * @return a copy of the address ranges
+     */
+    public String[] getRanges() {
+        return ranges.clone();
+    }
+
+    /**
+     * Checks if the specified string is a valid IPv4 or IPv6 address within the ranges.
+     *
+     * @param inetAddress the string to validate
+     * @return true if the string validates as an IP address within the ranges
+     */
+    public boolean isValid(final String inetAddress) {
+        return isValidInet4Address(inetAddress) || isValidInet6Address(inetAddress);
+    }
+
+    /**
+     * Checks if the specified string is a valid IPv4 address within the ranges.
+     *
+     * @param inet4Address the IPv4 address to validate
+     * @return true if the argument contains a valid IPv4 address within the ranges
+     */
+    public boolean isValidInet4Address(final String inet4Address) {
+        final long address = InetAddressValidator.getInstance().parseInet4Address(inet4Address);
+        return address >= 0 && inet4Ranges.contains(address << IPV4_BITS, 0, IPV4_BITS);
+    }
+
+    /**
+     * Checks if the specified string is a valid IPv6 address within the ranges.
+     *
+     * @param inet6Address the IPv6 address to validate
+     * @return true if the argument contains a valid IPv6 address within the ranges
+     */
+    public boolean isValidInet6Address(final String inet6Address) {
+        final byte[] address = new byte[IPV6_BYTES];
+        return InetAddressValidator.getInstance().parseInet6Address(inet6Address, address)
+                && inet6Ranges.contains(toLong(address, 0), toLong(address, BITS_PER_BYTE), prefixSize(inet6Address));
+    }
+
+    /**
+     * Provides a String representation of this validator.
+     * @return A String representation of this validator.
+     */
+    @Override
+    public String toString() {
+        return "InetAddressRangeValidator{" + String.join(",", ranges) + "}";
+    }
+}
@@ -18,12 +18,7 @@
 package org.apache.commons.validator.routines;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.regex.Pattern;
-
-import org.apache.commons.validator.GenericValidator;
 
 /**
  * <p><b>InetAddress</b> validation and conversion routines (<code>java.net.InetAddress</code>).</p>
@@ -42,14 +37,22 @@ public class InetAddressValidator implements Serializable {
 
     private static final int IPV4_MAX_OCTET_VALUE = 255;
 
-    private static final int MAX_UNSIGNED_SHORT = 0xffff;
+    // Number of octets (separated by .) in an IPV4 address
+    private static final int IPV4_OCTETS = 4;
+
+    // Max decimal digits in each IPv4 octet
+    private static final int IPV4_MAX_DIGITS_PER_OCTET = 3;
+
+    // Max decimal digits in an IPv6 prefix size
+    private static final int IPV6_MAX_PREFIX_DIGITS = 3;
+
+    private static final int BASE_10 = 10;
 
     private static final int BASE_16 = 16;
 
-    private static final long serialVersionUID = -919201640201914789L;
+    private static final int BITS_PER_BYTE = 8;
 
-    private static final String IPV4_REGEX =
-            "^(\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})$";
+    private static final long serialVersionUID = -919201640201914789L;
 
     // Max number of hex groups (separated by :) in an IPV6 address
     private static final int IPV6_MAX_HEX_GROUPS = 8;
@@ -57,14 +60,14 @@ public class InetAddressValidator implements Serializable {
     // Max hex digits in each IPv6 group
     private static final int IPV6_MAX_HEX_DIGITS_PER_GROUP = 4;
 
+    // Number of bytes in an IPv6 address
+    private static final int IPV6_BYTES = 2 * IPV6_MAX_HEX_GROUPS;
+
     /**
      * Singleton instance of this class.
      */
     private static final InetAddressValidator VALIDATOR = new InetAddressValidator();
 
-    private static final Pattern DIGITS_PATTERN = Pattern.compile("\\d{1,3}");
-
-    private static final Pattern ID_CHECK_PATTERN = Pattern.compile("[^\\s/%]+");
     /**
      * Returns the singleton instance of this validator.
      * @return the singleton instance of this validator
@@ -73,143 +76,300 @@ public class InetAddressValidator implements Serializable {
         return VALIDATOR;
     }
 
-    /** IPv4 RegexValidator */
-    private final RegexValidator ipv4Validator = new RegexValidator(IPV4_REGEX);
+    /**
+     * Tests whether all the characters of a region are blank, as
+     * {@link org.apache.commons.validator.GenericValidator#isBlankOrNull(String)} tests a string.
+     */
+    private static boolean isBlank(final String str, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (str.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
 
     /**
-     * Checks if the specified string is a valid IPv4 or IPv6 address.
-     * @param inetAddress the string to validate
-     * @return true if the string validates as an IP address
+     * Tests whether a character matches the regular expression <code>\s</code>.
      */
-    public boolean isValid(final String inetAddress) {
-        return isValidInet4Address(inetAddress) || isValidInet6Address(inetAddress);
+    private static boolean isWhitespace(final char ch) {
+        return ch == ' ' || ch >= '\t' && ch <= '\r';
     }
 
     /**
-     * Validates an IPv4 address. Returns true if valid.
-     * @param inet4Address the IPv4 address to validate
-     * @return true if the argument contains a valid IPv4 address
+     * Parses an IPv6 hex group as <code>Integer.parseInt(group, 16)</code> does.
+     *
+     * @return the value of the group, or -1 if it is not valid
      */
-    public boolean isValidInet4Address(final String inet4Address) {
-        // verify that address conforms to generic IPv4 format
-        final String[] groups = ipv4Validator.match(inet4Address);
-        if (groups == null) {
-            return false;
+    private static int parseHexGroup(final String str, final int start, final int end) {
+        if (end - start > IPV6_MAX_HEX_DIGITS_PER_GROUP) {
+            return -1;
         }
-        // verify that address subgroups are legal
-        for (final String ipSegment : groups) {
-            if (GenericValidator.isBlankOrNull(ipSegment)) {
-                return false;
+        int i = start;
+        final boolean negative = str.charAt(i) == '-';
+        if (negative || str.charAt(i) == '+') {
+            i++;
+            if (i == end) {
+                return -1;
             }
-            int iIpSegment = 0;
-            try {
-                iIpSegment = Integer.parseInt(ipSegment);
-            } catch (final NumberFormatException e) {
-                return false;
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            final int digit = Character.digit(str.charAt(i), BASE_16);
+            if (digit < 0) {
+                return -1;
             }
-            if (iIpSegment > IPV4_MAX_OCTET_VALUE) {
-                return false;
+            value = value * BASE_16 + digit;
+        }
+        return negative && value != 0 ? -1 : value;
+    }
+
+    /**
+     * Parses an IPv4 address in dotted decimal form.
+     *
+     * @param str the string holding the address
+     * @param start the index of the first character of the address
+     * @param end the index after the last character of the address
+     * @return the address as an unsigned 32 bit number, or -1 if it is not valid
+     */
+    private static long parseInet4(final String str, final int start, final int end) {
+        long address = 0;
+        int i = start;
+        for (int octet = 0; octet < IPV4_OCTETS; octet++) {
+            if (octet > 0) {
+                if (i >= end || str.charAt(i) != '.') {
+                    return -1;
+                }
+                i++;
             }
-            if (ipSegment.length() > 1 && ipSegment.startsWith("0")) {
-                return false;
+            final int digits = i;
+            int value = 0;
+            while (i < end && i - digits < IPV4_MAX_DIGITS_PER_OCTET && str.charAt(i) >= '0' && str.charAt(i) <= '9') {
+                value = value * BASE_10 + str.charAt(i) - '0';
+                i++;
+            }
+            if (i == digits || value > IPV4_MAX_OCTET_VALUE || i - digits > 1 && str.charAt(digits) == '0') {
+                return -1;
             }
+            address = address << BITS_PER_BYTE | value;
         }
-        return true;
+        return i == end ? address : -1;
     }
 
     /**
-     * Validates an IPv6 address. Returns true if valid.
-     * @param inet6Address the IPv6 address to validate
-     * @return true if the argument contains a valid IPv6 address
+     * Validates an IPv6 address, and parses it if an array is given.
      *
-     * @since 1.4.1
+     * @param str the string holding the address
+     * @param start the index of the first character of the address
+     * @param end the index after the last character of the address
+     * @param address the array to receive the 16 bytes of the address, or null
+     * @return true if the address is valid
      */
-    public boolean isValidInet6Address(String inet6Address) {
-        String[] parts;
+    private static boolean parseInet6(final String str, final int start, int end, final byte[] address) {
         // remove prefix size. This will appear after the zone id (if any)
-        parts = inet6Address.split("/", -1);
-        if (parts.length > 2) {
-            return false; // can only have one prefix specifier
-        }
-        if (parts.length == 2) {
-            if (!DIGITS_PATTERN.matcher(parts[1]).matches()) {
-                return false; // not a valid number
+        final int slash = str.indexOf('/', start);
+        if (slash >= 0 && slash < end) {
+            final int digits = end - slash - 1;
+            if (digits < 1 || digits > IPV6_MAX_PREFIX_DIGITS) {
+                return false; // not a valid number, or more than one prefix specifier
+            }
+            int bits = 0;
+            for (int i = slash + 1; i < end; i++) {
+                final char ch = str.charAt(i);
+                if (ch < '0' || ch > '9') {
+                    return false; // not a valid number
+                }
+                bits = bits * BASE_10 + ch - '0';
             }
-            final int bits = Integer.parseInt(parts[1]); // cannot fail because of RE check
-            if (bits < 0 || bits > MAX_BYTE) {
+            if (bits > MAX_BYTE) {
                 return false; // out of range
             }
+            end = slash;
         }
         // remove zone-id
-        parts = parts[0].split("%", -1);
-        if (parts.length > 2) {
-            return false;
-        }
-        // The id syntax is implementation independent, but it presumably cannot allow:
-        // whitespace, '/' or '%'
-        if (parts.length == 2 && !ID_CHECK_PATTERN.matcher(parts[1]).matches()) {
-            return false; // invalid id
-        }
-        inet6Address = parts[0];
-        final boolean containsCompressedZeroes = inet6Address.contains("::");
-        if (containsCompressedZeroes && inet6Address.indexOf("::") != inet6Address.lastIndexOf("::")) {
-            return false;
-        }
-        if (inet6Address.startsWith(":") && !inet6Address.startsWith("::")
-                || inet6Address.endsWith(":") && !inet6Address.endsWith("::")) {
-            return false;
+        final int percent = str.indexOf('%', start);
+        if (percent >= 0 && percent < end) {
+            // The id syntax is implementation independent, but it presumably cannot allow:
+            // whitespace, '/' or '%'
+            if (percent + 1 == end) {
+                return false; // invalid id
+            }
+            for (int i = percent + 1; i < end; i++) {
+                final char ch = str.charAt(i);
+                if (ch == '%' || isWhitespace(ch)) {
+                    return false; // invalid id
+                }
+            }
+            end = percent;
         }
-        String[] octets = inet6Address.split(":");
-        if (containsCompressedZeroes) {
-            final List<String> octetList = new ArrayList<>(Arrays.asList(octets));
-            if (inet6Address.endsWith("::")) {
-                // String.split() drops ending empty segments
-                octetList.add("");
-            } else if (inet6Address.startsWith("::") && !octetList.isEmpty()) {
-                octetList.remove(0);
+
+        // "::" can appear once, and a leading or trailing colon must be part of it
+        int compressed = -1;
+        for (int i = start; i + 1 < end; i++) {
+            if (str.charAt(i) == ':' && str.charAt(i + 1) == ':') {
+                if (compressed >= 0) {
+                    return false;
+                }
+                compressed = i;
             }
-            octets = octetList.toArray(new String[0]);
         }
-        if (octets.length > IPV6_MAX_HEX_GROUPS) {
+        if (start < end && (str.charAt(start) == ':' && compressed != start || str.charAt(end - 1) == ':' && compressed != end - 2)) {
             return false;
         }
+
         int validOctets = 0;
         int emptyOctets = 0; // consecutive empty chunks
-        for (int index = 0; index < octets.length; index++) {
-            final String octet = octets[index];
-            if (GenericValidator.isBlankOrNull(octet)) {
-                emptyOctets++;
-                if (emptyOctets > 1) {
-                    return false;
-                }
-            } else {
-                emptyOctets = 0;
-                // Is last chunk an IPv4 address?
-                if (index == octets.length - 1 && octet.contains(".")) {
-                    if (!isValidInet4Address(octet)) {
+        int length = 0; // bytes of the address parsed so far
+        int gap = -1; // where the compressed zeroes go
+        int groupStart = start;
+        while (true) {
+            int groupEnd = str.indexOf(':', groupStart);
+            if (groupEnd < 0 || groupEnd > end) {
+                groupEnd = end;
+            }
+            // the empty groups before a leading "::" and after a trailing "::" are not chunks
+            final boolean chunk = groupStart < groupEnd
+                    || !(groupStart == start && compressed == start || groupEnd == end && compressed == end - 2 && groupStart > start);
+            if (chunk) {
+                if (isBlank(str, groupStart, groupEnd)) {
+                    emptyOctets++;
+                    if (emptyOctets > 1) {
                         return false;
                     }
-                    validOctets += 2;
-                    continue;
-                }
-                if (octet.length() > IPV6_MAX_HEX_DIGITS_PER_GROUP) {
-                    return false;
-                }
-                int octetInt = 0;
-                try {
-                    octetInt = Integer.parseInt(octet, BASE_16);
-                } catch (final NumberFormatException e) {
-                    return false;
-                }
-                if (octetInt < 0 || octetInt > MAX_UNSIGNED_SHORT) {
-                    return false;
+                    validOctets++;
+                    if (validOctets > IPV6_MAX_HEX_GROUPS) {
+                        return false;
+                    }
+                    if (groupStart == groupEnd) {
+                        gap = length;
+                    } else if (address != null) {
+                        address[length++] = 0;
+                        address[length++] = 0;
+                    }
+                } else {
+                    emptyOctets = 0;
+                    // Is last chunk an IPv4 address?
+                    if (groupEnd == end && str.lastIndexOf('.', end - 1) >= groupStart) {
+                        final long inet4 = parseInet4(str, groupStart, groupEnd);
+                        validOctets += 2;
+                        if (inet4 < 0 || validOctets > IPV6_MAX_HEX_GROUPS) {
+                            return false;
+                        }
+                        if (address != null) {
+                            for (int shift = 3 * BITS_PER_BYTE; shift >= 0; shift -= BITS_PER_BYTE) { // CHECKSTYLE IGNORE MagicNumber
+                                address[length++] = (byte) (inet4 >>> shift);
+                            }
+                        }
+                    } else {
+                        final int group = parseHexGroup(str, groupStart, groupEnd);
+                        validOctets++;
+                        if (group < 0 || validOctets > IPV6_MAX_HEX_GROUPS) {
+                            return false;
+                        }
+                        if (address != null) {
+                            address[length++] = (byte) (group >>> BITS_PER_BYTE);
+                            address[length++] = (byte) group;
+                        }
+                    }
                 }
             }
-            validOctets++;
+            if (groupEnd == end) {
+                break;
+            }
+            groupStart = groupEnd + 1;
         }
-        if (validOctets > IPV6_MAX_HEX_GROUPS || validOctets < IPV6_MAX_HEX_GROUPS && !containsCompressedZeroes) {
+        if (validOctets < IPV6_MAX_HEX_GROUPS && compressed < 0) {
             return false;
         }
+        if (address != null && gap >= 0) {
+            final int tail = length - gap;
+            System.arraycopy(address, gap, address, IPV6_BYTES - tail, tail);
+            Arrays.fill(address, gap, IPV6_BYTES - tail, (byte) 0);
+        }
         return true;
     }
+
+    /**
+     * Checks if the specified string is a valid IPv4 or IPv6 address.
+     * @param inetAddress the string to validate
+     * @return true if the string validates as an IP address
+     */
+    public boolean isValid(final String inetAddress) {
+        return isValidInet4Address(inetAddress) || isValidInet6Address(inetAddress);
+    }
+
+    /**
+     * Validates an IPv4 address. Returns true if valid.
+     * @param inet4Address the IPv4 address to validate
+     * @return true if the argument contains a valid IPv4 address
+     */
+    public boolean isValidInet4Address(final String inet4Address) {
+        return inet4Address != null && parseInet4(inet4Address, 0, inet4Address.length()) >= 0;
+    }
+
+    /**
+     * Validates an IPv4 address that is part of a string.
+     *
+     * @param str the string holding the address
+     * @param start the index of the first character of the address
+     * @param end the index after the last character of the address
+     * @return true if the region contains a valid IPv4 address
+     */
+    boolean isValidInet4Address(final String str, final int start, final int end) {
+        return parseInet4(str, start, end) >= 0;
+    }
+
+    /**
+     * Validates an IPv6 address. Returns true if valid.
+     * @param inet6Address the IPv6 address to validate
+     * @return true if the argument contains a valid IPv6 address
+     *
+     * @since 1.4.1
+     */
+    public boolean isValidInet6Address(final String inet6Address) {
+        return inet6Address != null && parseInet6(inet6Address, 0, inet6Address.length(), null);
+    }
+
+    /**
+     * Validates an IPv6 address that is part of a string.
+     *
+     * @param str the string holding the address
+     * @param start the index of the first character of the address
+     * @param end the index after the last character of the address
+     * @return true if the region contains a valid IPv6 address
+     */
+    boolean isValidInet6Address(final String str, final int start, final int end) {
+        return parseInet6(str, start, end, null);
+    }
+
+    /**
+     * Parses an IPv4 address into its numeric value.
+     *
+     * @param inet4Address the IPv4 address to parse
+     * @return the address as an unsigned 32 bit number, or -1 if the argument
+     * is not a valid IPv4 address
+     * @since 1.9.1
+     */
+    public long parseInet4Address(final String inet4Address) {
+        return inet4Address == null ? -1 : parseInet4(inet4Address, 0, inet4Address.length());
+    }
+
+    /**
+     * Parses an IPv6 address into its numeric value, in network byte order.
+     * The address is validated as {@link #isValidInet6Address(String)} does;
+     * a zone id or prefix size is not part of the value.
+     *
+     * @param inet6Address the IPv6 address to parse
+     * @param address the array to receive the 16 bytes of the address; its
+     * contents are undefined if the address is not valid
+     * @return true if the argument contains a valid IPv6 address
+     * @throws IllegalArgumentException if the array is null or shorter than 16 bytes
+     * @since 1.9.1
+     */
+    public boolean parseInet6Address(final String inet6Address, final byte[] address) {
+        if (address == null || address.length < IPV6_BYTES) {
+            throw new IllegalArgumentException("The address array must have at least " + IPV6_BYTES + " bytes");
+        }
+        return inet6Address != null && parseInet6(inet6Address, 0, inet6Address.length(), address);
+    }
 }
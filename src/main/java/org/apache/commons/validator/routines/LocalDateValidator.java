@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalQueries;
+import java.time.temporal.TemporalQuery;
+import java.time.temporal.WeekFields;
+import java.util.Locale;
+
+/**
+ * <p><b>Date Validation</b> and Conversion routines (<code>java.time.LocalDate</code>).</p>
+ *
+ * <p>This validator provides a number of methods for validating/converting
+ *    a <code>String</code> date value to a <code>java.time.LocalDate</code> using
+ *    <code>java.time.format.DateTimeFormatter</code> to parse either:</p>
+ *    <ul>
+ *       <li>using the default format for the default <code>Locale</code></li>
+ *       <li>using a specified pattern with the default <code>Locale</code></li>
+ *       <li>using the default format for a specified <code>Locale</code></li>
+ *       <li>using a specified pattern with a specified <code>Locale</code></li>
+ *    </ul>
+ *
+ * <p>Unlike {@link DateValidator} values are always parsed strictly and
+ *    the formatters are created once per pattern and <code>Locale</code>;
+ *    see {@link AbstractTemporalValidator}.</p>
+ *
+ * <p>Use one of the <code>isValid()</code> methods to just validate or
+ *    one of the <code>validate()</code> methods to validate and receive a
+ *    <i>converted</i> <code>LocalDate</code> value.</p>
+ *
+ * <p>Once a value has been successfully converted the following
+ *    methods can be used to perform various date comparison checks:</p>
+ *    <ul>
+ *       <li><code>compareDates()</code> compares the day, month and
+ *           year of two dates, returning 0, -1 or +1 indicating
+ *           whether the first date is equal, before or after the second.</li>
+ *       <li><code>compareWeeks()</code> compares the week and
+ *           week based year of two dates, returning 0, -1 or +1 indicating
+ *           whether the first week is equal, before or after the second.</li>
+ *       <li><code>compareMonths()</code> compares the month and
+ *           year of two dates, returning 0, -1 or +1 indicating
+ *           whether the first month is equal, before or after the second.</li>
+ *       <li><code>compareQuarters()</code> compares the quarter and
+ *           year of two dates, returning 0, -1 or +1 indicating
+ *           whether the first quarter is equal, before or after the second.</li>
+ *       <li><code>compareYears()</code> compares the
+ *           year of two dates, returning 0, -1 or +1 indicating
+ *           whether the first year is equal, before or after the second.</li>
+ *    </ul>
+ *
+ * <p>So that the same mechanism used for parsing an <i>input</i> value
+ *    for validation can be used to format <i>output</i>, corresponding
+ *    <code>format()</code> methods are also provided.</p>
+ *
+ * @since 1.9.1
+ */
+public class LocalDateValidator extends AbstractTemporalValidator {
+
+    private static final long serialVersionUID = -2539632862357734262L;
+
+    private static final LocalDateValidator VALIDATOR = new LocalDateValidator();
+
+    /**
+     * Gets the singleton instance of this validator.
+     * @return A singleton instance of the LocalDateValidator.
+     */
+    public static LocalDateValidator getInstance() {
+        return VALIDATOR;
+    }
+
+    /**
+     * Constructs an instance with <i>short</i> date style.
+     */
+    public LocalDateValidator() {
+        this(FormatStyle.SHORT);
+    }
+
+    /**
+     * Constructs an instance with the specified <i>date style</i>.
+     *
+     * @param dateStyle the date style to use for Locale validation.
+     * @throws IllegalArgumentException if the date style is {@code null}
+     */
+    public LocalDateValidator(final FormatStyle dateStyle) {
+        super(dateStyle, null);
+    }
+
+    /**
+     * <p>Calculate the quarter for the specified date.</p>
+     *
+     * @param value The date value.
+     * @param monthOfFirstQuarter The  month that the first quarter starts.
+     * @return The calculated quarter.
+     */
+    private int calculateQuarter(final LocalDate value, final int monthOfFirstQuarter) {
+        int year = value.getYear();
+        final int month = value.getMonthValue();
+        final int relativeMonth = month >= monthOfFirstQuarter
+                          ? month - monthOfFirstQuarter
+                          : month + 12 - monthOfFirstQuarter; // CHECKSTYLE IGNORE MagicNumber
+        final int quarter = relativeMonth / 3 + 1; // CHECKSTYLE IGNORE MagicNumber
+        // adjust the year if the quarter doesn't start in January
+        if (month < monthOfFirstQuarter) {
+            --year;
+        }
+        return year * 10 + quarter; // CHECKSTYLE IGNORE MagicNumber
+    }
+
+    /**
+     * <p>Compare Dates (day, month and year).</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @return Zero if the dates are equal, -1 if first
+     * date is less than the seconds and +1 if the first
+     * date is greater than.
+     */
+    public int compareDates(final LocalDate value, final LocalDate compare) {
+        return compareValues(value.toEpochDay(), compare.toEpochDay());
+    }
+
+    /**
+     * <p>Compare Months (month and year).</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @return Zero if the months are equal, -1 if first
+     * parameter's month is less than the seconds and +1 if the first
+     * parameter's month is greater than.
+     */
+    public int compareMonths(final LocalDate value, final LocalDate compare) {
+        final int result = compareYears(value, compare);
+        return result != 0 ? result : compareValues(value.getMonthValue(), compare.getMonthValue());
+    }
+
+    /**
+     * <p>Compare Quarters (quarter and year).</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @return Zero if the quarters are equal, -1 if first
+     * parameter's quarter is less than the seconds and +1 if the first
+     * parameter's quarter is greater than.
+     */
+    public int compareQuarters(final LocalDate value, final LocalDate compare) {
+        return compareQuarters(value, compare, 1);
+    }
+
+    /**
+     * <p>Compare Quarters (quarter and year).</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @param monthOfFirstQuarter The  month that the first quarter starts.
+     * @return Zero if the quarters are equal, -1 if first
+     * parameter's quarter is less than the seconds and +1 if the first
+     * parameter's quarter is greater than.
+     */
+    public int compareQuarters(final LocalDate value, final LocalDate compare, final int monthOfFirstQuarter) {
+        return compareValues(calculateQuarter(value, monthOfFirstQuarter), calculateQuarter(compare, monthOfFirstQuarter));
+    }
+
+    /**
+     * <p>Compare Weeks (week and week based year).</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @param locale The locale which defines the weeks, system default if null.
+     * @return Zero if the weeks are equal, -1 if first
+     * parameter's week is less than the seconds and +1 if the first
+     * parameter's week is greater than.
+     */
+    public int compareWeeks(final LocalDate value, final LocalDate compare, final Locale locale) {
+        final WeekFields weekFields = WeekFields.of(locale == null ? Locale.getDefault(Locale.Category.FORMAT) : locale);
+        final int result = compareValues(value.get(weekFields.weekBasedYear()), compare.get(weekFields.weekBasedYear()));
+        if (result != 0) {
+            return result;
+        }
+        return compareValues(value.get(weekFields.weekOfWeekBasedYear()), compare.get(weekFields.weekOfWeekBasedYear()));
+    }
+
+    /**
+     * <p>Compare Years.</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @return Zero if the years are equal, -1 if first
+     * parameter's year is less than the seconds and +1 if the first
+     * parameter's year is greater than.
+     */
+    public int compareYears(final LocalDate value, final LocalDate compare) {
+        return compareValues(value.getYear(), compare.getYear());
+    }
+
+    /**
+     * <p>Returns the query converting a parsed value to a <code>LocalDate</code>.</p>
+     *
+     * @return The <code>LocalDate</code> query.
+     */
+    @Override
+    protected TemporalQuery<?> getQuery() {
+        return TemporalQueries.localDate();
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using the default
+     *    <code>Locale</code>.
+     *
+     * @param value The value validation is being performed on.
+     * @return The parsed <code>LocalDate</code> if valid or {@code null}
+     *  if invalid.
+     */
+    public LocalDate validate(final String value) {
+        return (LocalDate) parse(value, (String) null, (Locale) null, (ZoneId) null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using the
+     *    specified <code>Locale</code>.
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale to use for the date format, system default if null.
+     * @return The parsed <code>LocalDate</code> if valid or {@code null} if invalid.
+     */
+    public LocalDate validate(final String value, final Locale locale) {
+        return (LocalDate) parse(value, (String) null, locale, (ZoneId) null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using the
+     *    specified <i>pattern</i>.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @return The parsed <code>LocalDate</code> if valid or {@code null} if invalid.
+     */
+    public LocalDate validate(final String value, final String pattern) {
+        return (LocalDate) parse(value, pattern, (Locale) null, (ZoneId) null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using the
+     *    specified pattern and/ or <code>Locale</code>.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @param locale The locale to use for the date format, system default if null.
+     * @return The parsed <code>LocalDate</code> if valid or {@code null} if invalid.
+     */
+    public LocalDate validate(final String value, final String pattern, final Locale locale) {
+        return (LocalDate) parse(value, pattern, locale, (ZoneId) null);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalQueries;
+import java.time.temporal.TemporalQuery;
+import java.util.Locale;
+
+/**
+ * <p><b>Time Validation</b> and Conversion routines (<code>java.time.LocalTime</code>).</p>
+ *
+ * <p>This validator provides a number of methods for validating/converting
+ *    a <code>String</code> time value to a <code>java.time.LocalTime</code> using
+ *    <code>java.time.format.DateTimeFormatter</code> to parse either:</p>
+ *    <ul>
+ *       <li>using the default format for the default <code>Locale</code></li>
+ *       <li>using a specified pattern with the default <code>Locale</code></li>
+ *       <li>using the default format for a specified <code>Locale</code></li>
+ *       <li>using a specified pattern with a specified <code>Locale</code></li>
+ *    </ul>
+ *
+ * <p>Unlike {@link TimeValidator} values are always parsed strictly and
+ *    the formatters are created once per pattern and <code>Locale</code>;
+ *    see {@link AbstractTemporalValidator}.</p>
+ *
+ * <p>Use one of the <code>isValid()</code> methods to just validate or
+ *    one of the <code>validate()</code> methods to validate and receive a
+ *    <i>converted</i> <code>LocalTime</code> value.</p>
+ *
+ * <p>Once a value has been successfully converted the following
+ *    methods can be used to perform various time comparison checks:</p>
+ *    <ul>
+ *       <li><code>compareTime()</code> compares the hours, minutes, seconds
+ *           and nanoseconds of two times, returning 0, -1 or +1 indicating
+ *           whether the first time is equal, before or after the second.</li>
+ *       <li><code>compareSeconds()</code> compares the hours, minutes and
+ *           seconds of two times, returning 0, -1 or +1 indicating
+ *           whether the first is equal to, before or after the second.</li>
+ *       <li><code>compareMinutes()</code> compares the hours and minutes
+ *           of two times, returning 0, -1 or +1 indicating
+ *           whether the first is equal to, before or after the second.</li>
+ *       <li><code>compareHours()</code> compares the hours
+ *           of two times, returning 0, -1 or +1 indicating
+ *           whether the first is equal to, before or after the second.</li>
+ *    </ul>
+ *
+ * <p>So that the same mechanism used for parsing an <i>input</i> value
+ *    for validation can be used to format <i>output</i>, corresponding
+ *    <code>format()</code> methods are also provided.</p>
+ *
+ * @since 1.9.1
+ */
+public class LocalTimeValidator extends AbstractTemporalValidator {
+
+    private static final long serialVersionUID = 6815442519830276184L;
+
+    private static final LocalTimeValidator VALIDATOR = new LocalTimeValidator();
+
+    /**
+     * Gets the singleton instance of this validator.
+     * @return A singleton instance of the LocalTimeValidator.
+     */
+    public static LocalTimeValidator getInstance() {
+        return VALIDATOR;
+    }
+
+    /**
+     * Constructs an instance with <i>short</i> time style.
+     */
+    public LocalTimeValidator() {
+        this(FormatStyle.SHORT);
+    }
+
+    /**
+     * Constructs an instance with the specified <i>time style</i>.
+     *
+     * @param timeStyle the time style to use for Locale validation.
+     * @throws IllegalArgumentException if the time style is {@code null}
+     */
+    public LocalTimeValidator(final FormatStyle timeStyle) {
+        super(null, timeStyle);
+    }
+
+    /**
+     * <p>Compare Hours.</p>
+     *
+     * @param value The <code>LocalTime</code> value to check.
+     * @param compare The <code>LocalTime</code> to compare the value to.
+     * @return Zero if the hours are equal, -1 if first
+     * parameter's hour is less than the seconds and +1 if the first
+     * parameter's hour is greater than.
+     */
+    public int compareHours(final LocalTime value, final LocalTime compare) {
+        return compareValues(value.getHour(), compare.getHour());
+    }
+
+    /**
+     * <p>Compare Minutes (hours and minutes).</p>
+     *
+     * @param value The <code>LocalTime</code> value to check.
+     * @param compare The <code>LocalTime</code> to compare the value to.
+     * @return Zero if the hours are equal, -1 if first
+     * parameter's minutes are less than the seconds and +1 if the first
+     * parameter's minutes are greater than.
+     */
+    public int compareMinutes(final LocalTime value, final LocalTime compare) {
+        return compareValues(value.toSecondOfDay() / 60, compare.toSecondOfDay() / 60); // CHECKSTYLE IGNORE MagicNumber
+    }
+
+    /**
+     * <p>Compare Seconds (hours, minutes and seconds).</p>
+     *
+     * @param value The <code>LocalTime</code> value to check.
+     * @param compare The <code>LocalTime</code> to compare the value to.
+     * @return Zero if the hours are equal, -1 if first
+     * parameter's seconds are less than the seconds and +1 if the first
+     * parameter's seconds are greater than.
+     */
+    public int compareSeconds(final LocalTime value, final LocalTime compare) {
+        return compareValues(value.toSecondOfDay(), compare.toSecondOfDay());
+    }
+
+    /**
+     * <p>Compare Times (hour, minute, second and nanosecond).</p>
+     *
+     * @param value The <code>LocalTime</code> value to check.
+     * @param compare The <code>LocalTime</code> to compare the value to.
+     * @return Zero if the hours are equal, -1 if first
+     * time is less than the seconds and +1 if the first
+     * time is greater than.
+     */
+    public int compareTime(final LocalTime value, final LocalTime compare) {
+        return compareValues(value.toNanoOfDay(), compare.toNanoOfDay());
+    }
+
+    /**
+     * <p>Returns the query converting a parsed value to a <code>LocalTime</code>.</p>
+     *
+     * @return The <code>LocalTime</code> query.
+     */
+    @Override
+    protected TemporalQuery<?> getQuery() {
+        return TemporalQueries.localTime();
+    }
+
+    /**
+     * <p>Validate/convert a time using the default <code>Locale</code>.
+     *
+     * @param value The value validation is being performed on.
+     * @return The parsed <code>LocalTime</code> if valid or {@code null}
+     *  if invalid.
+     */
+    public LocalTime validate(final String value) {
+        return (LocalTime) parse(value, (String) null, (Locale) null, (ZoneId) null);
+    }
+
+    /**
+     * <p>Validate/convert a time using the specified <code>Locale</code>.
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale to use for the time format, system default if null.
+     * @return The parsed <code>LocalTime</code> if valid or {@code null} if invalid.
+     */
+    public LocalTime validate(final String value, final Locale locale) {
+        return (LocalTime) parse(value, (String) null, locale, (ZoneId) null);
+    }
+
+    /**
+     * <p>Validate/convert a time using the specified <i>pattern</i>.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against.
+     * @return The parsed <code>LocalTime</code> if valid or {@code null} if invalid.
+     */
+    public LocalTime validate(final String value, final String pattern) {
+        return (LocalTime) parse(value, pattern, (Locale) null, (ZoneId) null);
+    }
+
+    /**
+     * <p>Validate/convert a time using the specified pattern and
+     *    <code>Locale</code>.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @param locale The locale to use for the time format, system default if null.
+     * @return The parsed <code>LocalTime</code> if valid or {@code null} if invalid.
+     */
+    public LocalTime validate(final String value, final String pattern, final Locale locale) {
+        return (LocalTime) parse(value, pattern, locale, (ZoneId) null);
+    }
+}
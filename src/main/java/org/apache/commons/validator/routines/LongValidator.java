@@ -48,6 +48,9 @@ import java.util.Locale;
  *           a specified range of values.</li>
  *    </ul>
  *
+ * <p>For large volumes of values, <code>isValid(String, long, long, Locale)</code>
+ *    validates a value and checks its range in one call without boxing it.</p>
+ *
  * <p>So that the same mechanism used for parsing an <i>input</i> value
  *    for validation can be used to format <i>output</i>, corresponding
  *    <code>format()</code> methods are also provided. That is you can
@@ -132,6 +135,29 @@ public class LongValidator extends AbstractNumberValidator {
         return isInRange(value.longValue(), min, max);
     }
 
+    /**
+     * <p>Validate a value and check it is within a specified range in
+     *    one call, without boxing the value.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param min The minimum value of the range.
+     * @param max The maximum value of the range.
+     * @param locale The locale to use for the number format, system default if null.
+     * @return {@code true} if the value is valid and within the
+     *         specified range.
+     * @since 1.9.1
+     */
+    public boolean isValid(final String value, final long min, final long max, final Locale locale) {
+        if (getClass() == LongValidator.class) {
+            final long result = parsePlainLong(value, null, locale);
+            if (result != NOT_PLAIN) {
+                return result >= min && result <= max;
+            }
+        }
+        final Long result = validate(value, locale);
+        return result != null && isInRange(result.longValue(), min, max);
+    }
+
     /**
      * Check if the value is less than or equal to a maximum.
      *
@@ -180,6 +206,29 @@ public class LongValidator extends AbstractNumberValidator {
         return minValue(value.longValue(), min);
     }
 
+    /**
+     * <p>Parse the value using the specified pattern, parsing plain integers,
+     *    such as <code>-12,345</code>, without the <code>Format</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @param locale The locale to use for the number format, system default if null.
+     * @return The parsed value if valid or {@code null} if invalid.
+     * @since 1.9.1
+     */
+    @Override
+    protected Object parse(final String value, final String pattern, final Locale locale) {
+        // subclasses may change how values are parsed or processed
+        if (getClass() == LongValidator.class) {
+            final long result = parsePlainLong(value, pattern, locale);
+            if (result != NOT_PLAIN) {
+                return Long.valueOf(result);
+            }
+        }
+        return super.parse(value, pattern, locale);
+    }
+
     /**
      * Convert the parsed value to a <code>Long</code>.
      *
@@ -248,4 +297,72 @@ public class LongValidator extends AbstractNumberValidator {
     public Long validate(final String value, final String pattern, final Locale locale) {
         return (Long) parse(value, pattern, locale);
     }
+
+    /**
+     * <p>Validate/convert a <code>long</code> using the default
+     *    <code>Locale</code>.
+     *
+     * @param value The value validation is being performed on.
+     * @param defaultValue The value to return if the value is invalid.
+     * @return The parsed <code>long</code> if valid or the default value if invalid.
+     * @since 1.9.1
+     */
+    public long validateLong(final String value, final long defaultValue) {
+        return validateLong(value, (String) null, (Locale) null, defaultValue);
+    }
+
+    /**
+     * <p>Validate/convert a <code>long</code> using the
+     *    specified <code>Locale</code>.
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale to use for the number format, system default if null.
+     * @param defaultValue The value to return if the value is invalid.
+     * @return The parsed <code>long</code> if valid or the default value if invalid.
+     * @since 1.9.1
+     */
+    public long validateLong(final String value, final Locale locale, final long defaultValue) {
+        return validateLong(value, (String) null, locale, defaultValue);
+    }
+
+    /**
+     * <p>Validate/convert a <code>long</code> using the
+     *    specified <i>pattern</i>.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against.
+     * @param defaultValue The value to return if the value is invalid.
+     * @return The parsed <code>long</code> if valid or the default value if invalid.
+     * @since 1.9.1
+     */
+    public long validateLong(final String value, final String pattern, final long defaultValue) {
+        return validateLong(value, pattern, (Locale) null, defaultValue);
+    }
+
+    /**
+     * <p>Validate/convert a <code>long</code> using the
+     *    specified pattern and/ or <code>Locale</code>.</p>
+     *
+     * <p>Unlike <code>validate</code> this returns a primitive, and plain
+     *    integers such as <code>-12,345</code> are parsed without creating
+     *    any objects.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @param locale The locale to use for the number format, system default if null.
+     * @param defaultValue The value to return if the value is invalid.
+     * @return The parsed <code>long</code> if valid or the default value if invalid.
+     * @since 1.9.1
+     */
+    public long validateLong(final String value, final String pattern, final Locale locale, final long defaultValue) {
+        if (getClass() == LongValidator.class) {
+            final long result = parsePlainLong(value, pattern, locale);
+            if (result != NOT_PLAIN) {
+                return result;
+            }
+        }
+        final Long result = validate(value, pattern, locale);
+        return result == null ? defaultValue : result.longValue();
+    }
 }
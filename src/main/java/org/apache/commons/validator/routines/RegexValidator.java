@@ -17,6 +17,7 @@
 package org.apache.commons.validator.routines;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -65,14 +66,235 @@ import java.util.regex.Pattern;
  * to the {@link Pattern} API are safe to use in a multi-threaded environment.
  * </p>
  *
+ * <p>
+ * Regular expressions from untrusted configuration can take exponential time to
+ * match some inputs. A validator constructed with a timeout rejects patterns with
+ * nested unbounded quantifiers, such as <code>(a+)+</code>, and abandons the
+ * validation of a value that takes longer than the timeout. <code>isValid</code>
+ * then returns false, while <code>match</code> and <code>validate</code> throw a
+ * {@link MatchTimeoutException}:
+ * </p>
+ * <pre>
+ * <code>
+ * RegexValidator validator = new RegexValidator(regexs, true, Duration.ofMillis(50));
+ * </code>
+ * </pre>
+ *
  * @since 1.4
  */
 public class RegexValidator implements Serializable {
 
+    /**
+     * A value that checks the deadline of a validation as the matcher reads it.
+     */
+    private static final class DeadlineCharSequence implements CharSequence {
+
+        private final String value;
+
+        private final long deadline;
+
+        private int reads;
+
+        DeadlineCharSequence(final String value, final long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if ((++reads & CHECK_INTERVAL_MASK) == 0 && (System.nanoTime() - deadline > 0 || Thread.currentThread().isInterrupted())) {
+                throw new DeadlineException();
+            }
+            return value.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return value.length();
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return value.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    /**
+     * Thrown by {@link DeadlineCharSequence} to abandon a match.
+     */
+    private static final class DeadlineException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        DeadlineException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Thrown by {@link RegexValidator#match(String)} and {@link RegexValidator#validate(String)}
+     * of a validator constructed with a timeout when matching a value takes longer than
+     * the timeout or the thread is interrupted, so that this can be told apart from a
+     * value that does not match.
+     *
+     * @since 1.9.1
+     */
+    public static class MatchTimeoutException extends RuntimeException {
+
+        private static final long serialVersionUID = -3093165262185624339L;
+
+        /**
+         * Constructs an exception with a detail message.
+         *
+         * @param message the detail message
+         */
+        public MatchTimeoutException(final String message) {
+            super(message);
+        }
+    }
+
     private static final long serialVersionUID = -8832409930574867162L;
 
+    /** The deadline is checked once every this many reads of the value, plus one. */
+    private static final int CHECK_INTERVAL_MASK = 0x3FF;
+
+    /**
+     * Finds the end of a quantifier, ignoring a lazy or possessive suffix.
+     *
+     * @param regex the regular expression
+     * @param start the index after the quantified atom
+     * @param unbounded set to whether the quantifier has no upper bound
+     * @return the index after the quantifier, or start if there is none
+     */
+    private static int scanQuantifier(final String regex, final int start, final boolean[] unbounded) {
+        unbounded[0] = false;
+        if (start >= regex.length()) {
+            return start;
+        }
+        final char ch = regex.charAt(start);
+        int end;
+        if (ch == '*' || ch == '+') {
+            unbounded[0] = true;
+            end = start + 1;
+        } else if (ch == '?') {
+            end = start + 1;
+        } else if (ch == '{') {
+            // {n}, {n,} or {n,m}
+            end = start + 1;
+            while (end < regex.length() && Character.isDigit(regex.charAt(end))) {
+                end++;
+            }
+            if (end == start + 1 || end == regex.length()) {
+                return start;
+            }
+            if (regex.charAt(end) == ',') {
+                end++;
+                unbounded[0] = end < regex.length() && regex.charAt(end) == '}';
+                while (end < regex.length() && Character.isDigit(regex.charAt(end))) {
+                    end++;
+                }
+            }
+            if (end == regex.length() || regex.charAt(end) != '}') {
+                unbounded[0] = false;
+                return start;
+            }
+            end++;
+        } else {
+            return start;
+        }
+        if (end < regex.length() && regex.charAt(end) == '+') {
+            unbounded[0] = false; // a possessive quantifier does not backtrack
+            end++;
+        } else if (end < regex.length() && regex.charAt(end) == '?') {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Tests whether a regular expression has an unbounded quantifier applied to a group
+     * that has an unbounded quantifier itself, such as <code>(a+)+</code> or
+     * <code>(a*b?)*</code>. Matching such an expression can backtrack through a number
+     * of paths that grows exponentially with the length of the input.
+     *
+     * @param regex the regular expression
+     * @return true if the regular expression has nested unbounded quantifiers
+     */
+    static boolean hasNestedQuantifiers(final String regex) {
+        // for each open group, whether it contains an unbounded quantifier and whether it is atomic
+        final boolean[] unboundedIn = new boolean[regex.length() + 1];
+        final boolean[] atomic = new boolean[regex.length() + 1];
+        final boolean[] unbounded = new boolean[1];
+        int depth = 0;
+        int i = 0;
+        while (i < regex.length()) {
+            final char ch = regex.charAt(i);
+            boolean atomUnbounded = false; // whether the atom contains an unbounded quantifier
+            boolean atomAtomic = false;
+            if (ch == '\\') {
+                if (regex.startsWith("Q", i + 1)) {
+                    final int quoteEnd = regex.indexOf("\\E", i + 2);
+                    i = quoteEnd < 0 ? regex.length() : quoteEnd + 2;
+                    continue;
+                }
+                i += 2;
+            } else if (ch == '[') {
+                // skip the character class, which may contain nested classes
+                int classDepth = 0;
+                do {
+                    final char c = regex.charAt(i);
+                    if (c == '\\') {
+                        i++;
+                    } else if (c == '[') {
+                        classDepth++;
+                        if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') {
+                            i++;
+                        }
+                        if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') {
+                            i++; // a leading ] is literal
+                        }
+                    } else if (c == ']') {
+                        classDepth--;
+                    }
+                    i++;
+                } while (classDepth > 0 && i < regex.length());
+            } else if (ch == '(') {
+                depth++;
+                unboundedIn[depth] = false;
+                atomic[depth] = regex.startsWith("?>", i + 1);
+                i++;
+                continue;
+            } else if (ch == ')' && depth > 0) {
+                atomUnbounded = unboundedIn[depth];
+                atomAtomic = atomic[depth];
+                depth--;
+                i++;
+            } else {
+                i++;
+            }
+            i = scanQuantifier(regex, i, unbounded);
+            if (unbounded[0]) {
+                if (atomUnbounded && !atomAtomic) {
+                    return true;
+                }
+                unboundedIn[depth] = true;
+            } else if (atomUnbounded) {
+                unboundedIn[depth] = true;
+            }
+        }
+        return false;
+    }
+
     private final Pattern[] patterns;
 
+    /** The maximum time in nanoseconds that validating a value may take, or 0 if there is none. */
+    private final long timeoutNanos;
+
     /**
      * Constructs a <i>case sensitive</i> validator that matches any one
      * in the list of regular expressions.
@@ -129,6 +351,41 @@ public class RegexValidator implements Serializable {
      * sensitive</i>, otherwise matching is <i>case in-sensitive</i>
      */
     public RegexValidator(final String[] regexs, final boolean caseSensitive) {
+        this(regexs, caseSensitive, 0);
+    }
+
+    /**
+     * Constructs a validator that matches any one of the set of regular
+     * expressions with the specified case sensitivity, bounding the time
+     * that the validation of a value may take.
+     * <p>
+     * Regular expressions with nested unbounded quantifiers, such as
+     * <code>(a+)+</code>, are rejected since they may need exponential time.
+     * A validation that takes longer than the timeout, or that runs in an
+     * interrupted thread, is abandoned: {@link #isValid(String)} returns
+     * {@code false}, while {@link #match(String)} and {@link #validate(String)}
+     * throw a {@link MatchTimeoutException}.
+     * </p>
+     *
+     * @param regexs The set of regular expressions this validator will
+     * validate against
+     * @param caseSensitive when {@code true} matching is <i>case
+     * sensitive</i>, otherwise matching is <i>case in-sensitive</i>
+     * @param timeout the maximum time that validating a value may take
+     * @throws IllegalArgumentException if a regular expression is missing or
+     * has nested unbounded quantifiers, or the timeout is not positive
+     * @since 1.9.1
+     */
+    public RegexValidator(final String[] regexs, final boolean caseSensitive, final Duration timeout) {
+        this(regexs, caseSensitive, toNanos(timeout));
+        for (int i = 0; i < regexs.length; i++) {
+            if (hasNestedQuantifiers(regexs[i])) {
+                throw new IllegalArgumentException("Regular expression[" + i + "] has nested unbounded quantifiers: " + regexs[i]);
+            }
+        }
+    }
+
+    private RegexValidator(final String[] regexs, final boolean caseSensitive, final long timeoutNanos) {
         if (regexs == null || regexs.length == 0) {
             throw new IllegalArgumentException("Regular expressions are missing");
         }
@@ -141,6 +398,28 @@ public class RegexValidator implements Serializable {
             }
             patterns[i] = Pattern.compile(regex, flags);
         }
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    private static long toNanos(final Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        try {
+            return timeout.toNanos();
+        } catch (final ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Gets the maximum time that validating a value may take.
+     *
+     * @return the timeout, or {@code null} if validation is not bounded.
+     * @since 1.9.1
+     */
+    public Duration getTimeout() {
+        return timeoutNanos == 0 ? null : Duration.ofNanos(timeoutNanos);
     }
 
     /**
@@ -156,6 +435,11 @@ public class RegexValidator implements Serializable {
     /**
      * Validates a value against the set of regular expressions.
      *
+     * <p>If the validator was constructed with a timeout, a value whose
+     * validation takes longer than the timeout is invalid.  Use
+     * {@link #validate(String)} or {@link #match(String)} to tell this
+     * apart from a value that does not match.</p>
+     *
      * @param value The value to validate.
      * @return {@code true} if the value is valid
      * otherwise {@code false}.
@@ -164,14 +448,44 @@ public class RegexValidator implements Serializable {
         if (value == null) {
             return false;
         }
-        for (final Pattern pattern : patterns) {
-            if (pattern.matcher(value).matches()) {
-                return true;
+        final CharSequence input = getInput(value);
+        try {
+            for (final Pattern pattern : patterns) {
+                if (pattern.matcher(input).matches()) {
+                    return true;
+                }
             }
+        } catch (final DeadlineException e) {
+            return false;
         }
         return false;
     }
 
+    /**
+     * Gets the input to match a value with, which checks the timeout if there is one.
+     *
+     * @param value the value to validate
+     * @return the input for the matchers
+     */
+    private CharSequence getInput(final String value) {
+        if (timeoutNanos == 0) {
+            return value;
+        }
+        return new DeadlineCharSequence(value, System.nanoTime() + timeoutNanos);
+    }
+
+    /**
+     * Creates the exception thrown when a match is abandoned.
+     *
+     * @return the exception to throw
+     */
+    private MatchTimeoutException timeout() {
+        if (Thread.currentThread().isInterrupted()) {
+            return new MatchTimeoutException("Regular expression match interrupted");
+        }
+        return new MatchTimeoutException("Regular expression match took longer than " + Duration.ofNanos(timeoutNanos));
+    }
+
     /**
      * Validates a value against the set of regular expressions
      * returning the array of matched groups.
@@ -179,21 +493,28 @@ public class RegexValidator implements Serializable {
      * @param value The value to validate.
      * @return String array of the <i>groups</i> matched if
      * valid or {@code null} if invalid
+     * @throws MatchTimeoutException if the validator was constructed with
+     * a timeout and matching the value took longer than the timeout
      */
     public String[] match(final String value) {
         if (value == null) {
             return null;
         }
-        for (final Pattern pattern : patterns) {
-            final Matcher matcher = pattern.matcher(value);
-            if (matcher.matches()) {
-                final int count = matcher.groupCount();
-                final String[] groups = new String[count];
-                for (int j = 0; j < count; j++) {
-                    groups[j] = matcher.group(j + 1);
+        final CharSequence input = getInput(value);
+        try {
+            for (final Pattern pattern : patterns) {
+                final Matcher matcher = pattern.matcher(input);
+                if (matcher.matches()) {
+                    final int count = matcher.groupCount();
+                    final String[] groups = new String[count];
+                    for (int j = 0; j < count; j++) {
+                        groups[j] = matcher.group(j + 1);
+                    }
+                    return groups;
                 }
-                return groups;
             }
+        } catch (final DeadlineException e) {
+            throw timeout();
         }
         return null;
     }
@@ -223,27 +544,34 @@ public class RegexValidator implements Serializable {
      * @param value The value to validate.
      * @return Aggregated String value comprised of the
      * <i>groups</i> matched if valid or {@code null} if invalid
+     * @throws MatchTimeoutException if the validator was constructed with
+     * a timeout and matching the value took longer than the timeout
      */
     public String validate(final String value) {
         if (value == null) {
             return null;
         }
-        for (final Pattern pattern : patterns) {
-            final Matcher matcher = pattern.matcher(value);
-            if (matcher.matches()) {
-                final int count = matcher.groupCount();
-                if (count == 1) {
-                    return matcher.group(1);
-                }
-                final StringBuilder buffer = new StringBuilder();
-                for (int j = 0; j < count; j++) {
-                    final String component = matcher.group(j + 1);
-                    if (component != null) {
-                        buffer.append(component);
+        final CharSequence input = getInput(value);
+        try {
+            for (final Pattern pattern : patterns) {
+                final Matcher matcher = pattern.matcher(input);
+                if (matcher.matches()) {
+                    final int count = matcher.groupCount();
+                    if (count == 1) {
+                        return matcher.group(1);
+                    }
+                    final StringBuilder buffer = new StringBuilder();
+                    for (int j = 0; j < count; j++) {
+                        final String component = matcher.group(j + 1);
+                        if (component != null) {
+                            buffer.append(component);
+                        }
                     }
+                    return buffer.toString();
                 }
-                return buffer.toString();
             }
+        } catch (final DeadlineException e) {
+            throw timeout();
         }
         return null;
     }
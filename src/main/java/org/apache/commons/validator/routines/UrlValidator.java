@@ -38,8 +38,16 @@ import org.apache.commons.validator.GenericValidator;
  * included then fragments are flagged as illegal.</li>
  * <li>ALLOW_ALL_SCHEMES - [FALSE] By default only http, https, and ftp are
  * considered valid schemes.  Enabling this option will let any scheme pass validation.</li>
+ * <li>URI_PARSING - [FALSE] Parse URLs with <code>java.net.URI</code> and regular
+ * expressions, as earlier versions did, instead of with a single scan.</li>
  * </ul>
  *
+ * <p>A subclass that overrides {@link #isValid(String)}, one of the
+ * <code>isValid...</code> methods checking a component of a URL or
+ * {@link #countToken(String, String)} always validates URLs with
+ * <code>java.net.URI</code>, so that its methods are called. Other
+ * subclasses use the single scan.</p>
+ *
  * <p>Originally based in on php script by Debbie Dyer, validation.php v1.2b, Date: 03/07/02,
  * https://javascript.internet.com. However, this validation now bears little resemblance
  * to the php original.</p>
@@ -77,6 +85,228 @@ import org.apache.commons.validator.GenericValidator;
  */
 public class UrlValidator implements Serializable {
 
+    /**
+     * The offsets of the components of a URL found by {@link UrlValidator#parse(String)}.
+     */
+    private static final class Components {
+
+        /** The index of the colon ending the scheme. */
+        int schemeEnd;
+
+        /** The index of the first character of the authority, or -1 if there is none. */
+        int authorityStart = -1;
+
+        /** The index after the last character of the authority. */
+        int authorityEnd = -1;
+
+        /** The index of the first character of the path, or -1 if the URL is opaque. */
+        int pathStart = -1;
+
+        /** The index after the last character of the path. */
+        int pathEnd = -1;
+
+        /** The index after the question mark starting the query, or -1 if there is none. */
+        int queryStart = -1;
+
+        /** The index after the last character of the query. */
+        int queryEnd = -1;
+
+        /** The index after the hash starting the fragment, or -1 if there is none. */
+        int fragmentStart = -1;
+
+        /** The string holding the host, the URL itself unless the authority was converted to ASCII. */
+        String hostSource;
+
+        /** The index of the first character of the host in hostSource, excluding any brackets. */
+        int hostStart = -1;
+
+        /** The index after the last character of the host in hostSource. */
+        int hostEnd = -1;
+
+        /** The type of the host, or null if it has not been classified. */
+        HostType hostType;
+
+        /** The port, or -1 if there is none. */
+        int port = -1;
+    }
+
+    /**
+     * The type of the host of a URL.
+     *
+     * @since 1.9.1
+     */
+    public enum HostType {
+        /** A domain name. */
+        DOMAIN,
+        /** An IPv4 address. */
+        IPV4,
+        /** An IPv6 address. */
+        IPV6
+    }
+
+    /**
+     * The components of a valid URL, as returned by {@link UrlValidator#validate(String)}.
+     * The path, query and fragment are given as offsets into the URL, so they are only
+     * copied if they are asked for.
+     *
+     * @since 1.9.1
+     */
+    public static final class ParsedUrl {
+
+        private final String url;
+        private final String scheme;
+        private final String host;
+        private final HostType hostType;
+        private final int port;
+        private final int pathStart;
+        private final int pathEnd;
+        private final int queryStart;
+        private final int queryEnd;
+        private final int fragmentStart;
+
+        private ParsedUrl(final String url, final Components components) {
+            this.url = url;
+            this.scheme = url.substring(0, components.schemeEnd).toLowerCase(Locale.ENGLISH);
+            this.host = components.hostStart < 0 ? null : components.hostSource.substring(components.hostStart, components.hostEnd);
+            this.hostType = components.hostType;
+            this.port = components.port;
+            this.pathStart = components.pathStart;
+            this.pathEnd = components.pathEnd;
+            this.queryStart = components.queryStart;
+            this.queryEnd = components.queryEnd;
+            this.fragmentStart = components.fragmentStart;
+        }
+
+        /**
+         * Gets the fragment of the URL, without the leading hash.
+         *
+         * @return the fragment, or null if the URL has none
+         */
+        public String getFragment() {
+            return fragmentStart < 0 ? null : url.substring(fragmentStart);
+        }
+
+        /**
+         * Gets the index of the first character of the fragment in the URL.
+         *
+         * @return the index after the hash, or -1 if the URL has no fragment
+         */
+        public int getFragmentStart() {
+            return fragmentStart;
+        }
+
+        /**
+         * Gets the host of the URL in ASCII, with any internationalized labels
+         * converted to punycode. IPv6 addresses are returned without brackets.
+         *
+         * @return the host, or null if the URL has no authority or the authority
+         * matched the authority validator without having the form of a host and port
+         */
+        public String getHost() {
+            return host;
+        }
+
+        /**
+         * Gets the type of the host of the URL.
+         *
+         * @return the host type, or null if {@link #getHost()} is null
+         */
+        public HostType getHostType() {
+            return hostType;
+        }
+
+        /**
+         * Gets the path of the URL.
+         *
+         * @return the path, which may be empty, or null if the URL is opaque
+         */
+        public String getPath() {
+            return pathStart < 0 ? null : url.substring(pathStart, pathEnd);
+        }
+
+        /**
+         * Gets the index after the last character of the path in the URL.
+         *
+         * @return the end of the path, or -1 if the URL is opaque
+         */
+        public int getPathEnd() {
+            return pathEnd;
+        }
+
+        /**
+         * Gets the index of the first character of the path in the URL.
+         *
+         * @return the start of the path, or -1 if the URL is opaque
+         */
+        public int getPathStart() {
+            return pathStart;
+        }
+
+        /**
+         * Gets the port of the URL.
+         *
+         * @return the port, or -1 if the URL does not give one
+         */
+        public int getPort() {
+            return port;
+        }
+
+        /**
+         * Gets the query of the URL, without the leading question mark.
+         *
+         * @return the query, or null if the URL has none
+         */
+        public String getQuery() {
+            return queryStart < 0 ? null : url.substring(queryStart, queryEnd);
+        }
+
+        /**
+         * Gets the index after the last character of the query in the URL.
+         *
+         * @return the end of the query, or -1 if the URL has no query
+         */
+        public int getQueryEnd() {
+            return queryEnd;
+        }
+
+        /**
+         * Gets the index of the first character of the query in the URL.
+         *
+         * @return the index after the question mark, or -1 if the URL has no query
+         */
+        public int getQueryStart() {
+            return queryStart;
+        }
+
+        /**
+         * Gets the scheme of the URL in lower case.
+         *
+         * @return the scheme
+         */
+        public String getScheme() {
+            return scheme;
+        }
+
+        /**
+         * Gets the URL.
+         *
+         * @return the URL as it was validated
+         */
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * Returns the URL.
+         *
+         * @return the URL as it was validated
+         */
+        @Override
+        public String toString() {
+            return url;
+        }
+    }
+
     private static final long serialVersionUID = 7557161713937335013L;
 
     private static final int MAX_UNSIGNED_16_BIT_INT = 0xFFFF; // port max
@@ -105,6 +335,16 @@ public class UrlValidator implements Serializable {
      */
     public static final long ALLOW_LOCAL_URLS = 1 << 3; // CHECKSTYLE IGNORE MagicNumber
 
+    /**
+     * Validate URLs as earlier versions did, by parsing them with {@link URI}
+     * and matching the components with regular expressions, instead of with
+     * a single left to right scan. Both give the same results; this option
+     * is intended for comparison.
+     *
+     * @since 1.9.1
+     */
+    public static final long URI_PARSING = 1 << 4; // CHECKSTYLE IGNORE MagicNumber
+
     /**
      * Protocol scheme (e.g. http, ftp, https).
      */
@@ -151,11 +391,43 @@ public class UrlValidator implements Serializable {
     private static final String QUERY_REGEX = "^(\\S*)$";
     private static final Pattern QUERY_PATTERN = Pattern.compile(QUERY_REGEX);
 
+    // Characters of the single pass parser, following the grammar of RFC2396 accepted by java.net.URI
+    private static final String ALPHANUM = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final String UNRESERVED = ALPHANUM + "-_.!~*'()";
+    private static final boolean[] SCHEME_CHARS = asciiTable(ALPHANUM + "+-.");
+    private static final boolean[] REG_NAME_CHARS = asciiTable(UNRESERVED + "$,;:@&=+");
+    private static final boolean[] URI_USERINFO_CHARS = asciiTable(UNRESERVED + ";:&=+$,");
+    private static final boolean[] SCOPE_ID_CHARS = asciiTable(ALPHANUM + "_.");
+    private static final boolean[] PATH_CHARS = asciiTable(UNRESERVED + ":@&=+$,;/");
+    private static final boolean[] URIC_CHARS = asciiTable(UNRESERVED + ";/?:@&=+$,[]");
+    // The characters of USERINFO_CHARS_REGEX and AUTHORITY_CHARS_REGEX
+    private static final boolean[] USERINFO_CHARS = asciiTable(ALPHANUM + "%&'()*+,-._~!$;=");
+    private static final boolean[] HOST_CHARS = asciiTable(ALPHANUM + "-.");
+
     /**
      * If no schemes are provided, default to this set.
      */
     private static final String[] DEFAULT_SCHEMES = {"http", "https", "ftp"}; // Must be lower-case
 
+    /**
+     * Whether a class overrides none of the methods that the single scan of
+     * {@link #scan(String)} stands in for.
+     */
+    private static final ClassValue<Boolean> SCANNABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            for (Class<?> c = type; c != UrlValidator.class; c = c.getSuperclass()) {
+                if (declares(c, "isValid", String.class) || declares(c, "isValidScheme", String.class)
+                        || declares(c, "isValidAuthority", String.class) || declares(c, "isValidPath", String.class)
+                        || declares(c, "isValidQuery", String.class) || declares(c, "isValidFragment", String.class)
+                        || declares(c, "countToken", String.class, String.class)) {
+                    return Boolean.FALSE;
+                }
+            }
+            return Boolean.TRUE;
+        }
+    };
+
     /**
      * Singleton instance of this class with default schemes and options.
      */
@@ -169,6 +441,205 @@ public class UrlValidator implements Serializable {
         return DEFAULT_URL_VALIDATOR;
     }
 
+    /**
+     * Creates a lookup table of ASCII characters.
+     *
+     * @param chars the characters in the table
+     * @return the table, indexed by character
+     */
+    private static boolean[] asciiTable(final String chars) {
+        final boolean[] table = new boolean[128]; // CHECKSTYLE IGNORE MagicNumber
+        for (int i = 0; i < chars.length(); i++) {
+            table[chars.charAt(i)] = true;
+        }
+        return table;
+    }
+
+    /**
+     * Tests whether a class declares a method.
+     *
+     * @param type the class
+     * @param name the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @return true if the class declares the method
+     */
+    private static boolean declares(final Class<?> type, final String name, final Class<?>... parameterTypes) {
+        try {
+            type.getDeclaredMethod(name, parameterTypes);
+            return true;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isAlpha(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z';
+    }
+
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isHexDigit(final char ch) {
+        return isDigit(ch) || ch >= 'a' && ch <= 'f' || ch >= 'A' && ch <= 'F';
+    }
+
+    private static boolean isIn(final boolean[] table, final char ch) {
+        return ch < table.length && table[ch];
+    }
+
+    /**
+     * Checks an authority containing an IPv6 reference, which <code>java.net.URI</code>
+     * only accepts as a server authority:
+     * <code>[ userinfo "@" ] "[" IPv6address [ "%" scope_id ] "]" [ ":" port ]</code>.
+     *
+     * @param str the string containing the authority
+     * @param start the index of the first character of the authority
+     * @param end the index after the last character of the authority
+     * @return true if <code>java.net.URI</code> accepts the authority
+     */
+    private static boolean isServerAuthority(final String str, final int start, final int end) {
+        int p = start;
+        final int at = str.indexOf('@', start);
+        if (at >= 0 && at < end) {
+            if (scanURIChars(str, start, at, URI_USERINFO_CHARS) != at) {
+                return false;
+            }
+            p = at + 1;
+        }
+        if (p == end || str.charAt(p) != '[') {
+            return false;
+        }
+        final int close = str.indexOf(']', p);
+        if (close < 0 || close >= end) {
+            return false;
+        }
+        int addressEnd = close;
+        final int percent = str.indexOf('%', p);
+        if (percent > p + 1 && percent < close) {
+            addressEnd = percent;
+            int i = percent + 1;
+            while (i < close && isIn(SCOPE_ID_CHARS, str.charAt(i))) {
+                i++;
+            }
+            if (i == percent + 1 || i < close) {
+                return false;
+            }
+        }
+        if (!isServerIPv6Address(str, p + 1, addressEnd)) {
+            return false;
+        }
+        p = close + 1;
+        if (p < end && str.charAt(p) == ':') {
+            final int digits = ++p;
+            while (p < end && isDigit(str.charAt(p))) {
+                p++;
+            }
+            if (parsePort(str, digits, p) < 0) {
+                return false;
+            }
+        }
+        return p == end;
+    }
+
+    /**
+     * Checks an IPv6 address as <code>java.net.URI</code> does: groups of one to four
+     * hex digits separated by colons, at most one <code>"::"</code> and optionally
+     * an IPv4 address at the end, making up 16 bytes.
+     *
+     * @param str the string containing the address
+     * @param start the index of the first character of the address
+     * @param end the index after the last character of the address
+     * @return true if <code>java.net.URI</code> accepts the address
+     */
+    private static boolean isServerIPv6Address(final String str, final int start, final int end) {
+        if (start == end) {
+            return false;
+        }
+        int bytes = 0;
+        boolean compressed = false;
+        int p = start;
+        if (str.startsWith("::", p)) {
+            compressed = true;
+            p += 2;
+        } else if (str.charAt(p) == ':') {
+            return false;
+        }
+        while (p < end) {
+            int q = p;
+            boolean ipv4 = false;
+            while (q < end && str.charAt(q) != ':') {
+                ipv4 |= str.charAt(q) == '.';
+                q++;
+            }
+            if (q == p) {
+                return false;
+            }
+            if (ipv4) {
+                if (q < end || !isServerIPv4Address(str, p, q)) {
+                    return false;
+                }
+                bytes += 4; // CHECKSTYLE IGNORE MagicNumber
+                break;
+            }
+            if (q - p > 4) { // CHECKSTYLE IGNORE MagicNumber
+                return false;
+            }
+            for (int i = p; i < q; i++) {
+                if (!isHexDigit(str.charAt(i))) {
+                    return false;
+                }
+            }
+            bytes += 2;
+            if (q == end) {
+                break;
+            }
+            if (q + 1 < end && str.charAt(q + 1) == ':') {
+                if (compressed) {
+                    return false;
+                }
+                compressed = true;
+                p = q + 2;
+            } else if (q + 1 == end) {
+                return false;
+            } else {
+                p = q + 1;
+            }
+        }
+        return compressed ? bytes < 16 : bytes == 16; // CHECKSTYLE IGNORE MagicNumber
+    }
+
+    /**
+     * Checks an IPv4 address at the end of an IPv6 address as <code>java.net.URI</code>
+     * does: four decimal numbers up to 255 separated by dots.
+     *
+     * @param str the string containing the address
+     * @param start the index of the first character of the address
+     * @param end the index after the last character of the address
+     * @return true if <code>java.net.URI</code> accepts the address
+     */
+    private static boolean isServerIPv4Address(final String str, final int start, final int end) {
+        int p = start;
+        for (int i = 0; i < 4; i++) { // CHECKSTYLE IGNORE MagicNumber
+            if (i > 0) {
+                if (p == end || str.charAt(p) != '.') {
+                    return false;
+                }
+                p++;
+            }
+            final int digits = p;
+            int value = 0;
+            while (p < end && isDigit(str.charAt(p))) {
+                value = Math.min(value * 10 + str.charAt(p) - '0', 256); // CHECKSTYLE IGNORE MagicNumber
+                p++;
+            }
+            if (p == digits || value > 255) { // CHECKSTYLE IGNORE MagicNumber
+                return false;
+            }
+        }
+        return p == end;
+    }
+
     /**
      * Tests whether the given flag is on.  If the flag is not a power of 2
      * (e.g. 3) this tests whether the combination of flags is on.
@@ -182,6 +653,69 @@ public class UrlValidator implements Serializable {
         return (options & flag) > 0;
     }
 
+    /**
+     * Parses the digits of a port number.
+     *
+     * @param str the string containing the digits
+     * @param start the index of the first digit
+     * @param end the index after the last digit
+     * @return the port number, or -1 if it is greater than {@link Integer#MAX_VALUE}
+     */
+    private static int parsePort(final String str, final int start, final int end) {
+        long port = 0;
+        for (int i = start; i < end; i++) {
+            port = port * 10 + str.charAt(i) - '0'; // CHECKSTYLE IGNORE MagicNumber
+            if (port > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return (int) port;
+    }
+
+    /**
+     * Scans the characters that <code>java.net.URI</code> accepts in a component
+     * of a URI: the characters of the table, escaped octets and the non-ASCII
+     * characters that are neither space nor control characters.
+     *
+     * @param str the string to scan
+     * @param start the index to start at
+     * @param end the index to stop at
+     * @param table the ASCII characters allowed in the component
+     * @return the index of the first character that is not allowed, or <code>end</code>
+     */
+    private static int scanURIChars(final String str, final int start, final int end, final boolean[] table) {
+        int i = start;
+        while (i < end) {
+            final char ch = str.charAt(i);
+            if (isIn(table, ch)) {
+                i++;
+            } else if (ch == '%' && i + 2 < end && isHexDigit(str.charAt(i + 1)) && isHexDigit(str.charAt(i + 2))) {
+                i += 3;
+            } else if (ch >= 0x80 && !Character.isSpaceChar(ch) && !Character.isISOControl(ch)) { // CHECKSTYLE IGNORE MagicNumber
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Scans to the first of the given delimiters.
+     *
+     * @param str the string to scan
+     * @param start the index to start at
+     * @param delimiters the characters to stop at
+     * @return the index of the first delimiter, or the length of the string
+     */
+    private static int scanTo(final String str, final int start, final String delimiters) {
+        int i = start;
+        while (i < str.length() && delimiters.indexOf(str.charAt(i)) < 0) {
+            i++;
+        }
+        return i;
+    }
+
     /**
      * Holds the set of current validation options.
      */
@@ -200,6 +734,12 @@ public class UrlValidator implements Serializable {
 
     private final DomainValidator domainValidator;
 
+    /**
+     * Whether URLs are validated by {@link #scan(String)}. Subclasses that override a
+     * method of the <code>java.net.URI</code> based validation use that validation.
+     */
+    private final boolean singlePass;
+
     /**
      * Create a UrlValidator with default properties.
      */
@@ -300,6 +840,7 @@ public class UrlValidator implements Serializable {
         }
 
         this.authorityValidator = authorityValidator;
+        this.singlePass = isOff(URI_PARSING) && SCANNABLE.get(getClass());
     }
 
     /**
@@ -359,6 +900,9 @@ public class UrlValidator implements Serializable {
         if (value == null) {
             return false;
         }
+        if (singlePass) {
+            return scan(value) != null;
+        }
 
         URI uri; // ensure value is a valid URI
         try {
@@ -400,6 +944,53 @@ public class UrlValidator implements Serializable {
         return true;
     }
 
+    /**
+     * <p>Validates a URL and returns its components.</p>
+     *
+     * The URL is valid if {@link #isValid(String)} returns true for it. The host,
+     * its type and the port are those that the validation found, so callers do
+     * not need to parse the URL again.
+     *
+     * <p>Subclasses that override a validation method validate the URL with
+     * <code>java.net.URI</code>, as described for this class, and then find its
+     * components.  A subclass that overrides {@link #isValid(String)} may accept
+     * URLs that <code>java.net.URI</code> cannot parse.
+     * The components of such a URL are found with the regular expression of
+     * RFC 3986, Appendix B, which splits any string: the scheme is empty if the
+     * URL has none and the path is never null.</p>
+     *
+     * @param value The value validation is being performed on.  A {@code null}
+     * value is considered invalid.
+     * @return the components of the URL, or null if it is not valid
+     * @since 1.9.1
+     */
+    public ParsedUrl validate(final String value) {
+        if (value == null) {
+            return null;
+        }
+        Components url;
+        if (singlePass) {
+            url = scan(value);
+        } else if (isValid(value)) {
+            url = parse(value);
+            if (url == null) {
+                // a subclass accepted a URL that java.net.URI does not
+                url = split(value);
+            }
+        } else {
+            url = null;
+        }
+        if (url == null) {
+            return null;
+        }
+        if (url.authorityStart >= 0 && url.hostType == null && parseAuthority(value, url) && url.hostType == null) {
+            // the authority validator accepted the authority, or it was validated by isValid(String)
+            url.hostType = InetAddressValidator.getInstance().isValidInet4Address(url.hostSource, url.hostStart, url.hostEnd)
+                    ? HostType.IPV4 : HostType.DOMAIN;
+        }
+        return new ParsedUrl(value, url);
+    }
+
     /**
      * Returns true if the authority is properly formatted.  An authority is the combination
      * of hostname and port.  A {@code null} authority value is considered invalid.
@@ -551,4 +1142,359 @@ public class UrlValidator implements Serializable {
         return true;
     }
 
+
+    /**
+     * Checks the scheme of a URL, as {@link #isValidScheme(String)} does.
+     *
+     * @param value the URL
+     * @param schemeEnd the index of the colon ending the scheme
+     * @return true if the scheme is allowed
+     */
+    private boolean isAllowedScheme(final String value, final int schemeEnd) {
+        if (isOn(ALLOW_ALL_SCHEMES)) {
+            return true;
+        }
+        for (final String scheme : allowedSchemes) {
+            if (scheme.length() == schemeEnd && value.regionMatches(true, 0, scheme, 0, schemeEnd)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the host and port of the authority of a URL, converting the authority to ASCII if needed.
+     * The authority must have the form <code>[ userinfo "@" ] host [ ":" *digit ]</code> or
+     * <code>"[" IPv6 "]" [ ":" *digit ]</code>; bracketed hosts are classified as IPv6 addresses.
+     *
+     * @param value the URL
+     * @param url the components of the URL, updated with the host and port
+     * @return true if the authority has one of the forms
+     */
+    private static boolean parseAuthority(final String value, final Components url) {
+        // convert to ASCII if needed
+        String str = value;
+        int from = url.authorityStart;
+        int to = url.authorityEnd;
+        for (int i = from; i < to; i++) {
+            if (value.charAt(i) >= 0x80) { // CHECKSTYLE IGNORE MagicNumber
+                str = DomainValidator.unicodeToASCII(value.substring(from, to));
+                from = 0;
+                to = str.length();
+                break;
+            }
+        }
+
+        final boolean ipv6 = from < to && str.charAt(from) == '[';
+        int hostStart;
+        int hostEnd;
+        if (ipv6) {
+            // "[" IPV6_REGEX "]" [ ":" *digit ]
+            hostStart = from + 1;
+            hostEnd = str.indexOf(']', hostStart);
+            if (hostEnd < 0 || hostEnd >= to) {
+                return false;
+            }
+        } else {
+            // [ userinfo "@" ] host [ ":" *digit ]
+            hostStart = from;
+            int i = from;
+            while (i < to && isIn(USERINFO_CHARS, str.charAt(i))) {
+                i++;
+            }
+            if (i > from && i < to && str.charAt(i) == ':') {
+                i++;
+                while (i < to && isIn(USERINFO_CHARS, str.charAt(i))) {
+                    i++;
+                }
+            }
+            if (i > from && i < to && str.charAt(i) == '@') {
+                hostStart = i + 1;
+            }
+            hostEnd = hostStart;
+            while (hostEnd < to && isIn(HOST_CHARS, str.charAt(hostEnd))) {
+                hostEnd++;
+            }
+        }
+        int portEnd = ipv6 ? hostEnd + 1 : hostEnd;
+        final int portStart = portEnd + 1;
+        if (portEnd < to && str.charAt(portEnd) == ':') {
+            portEnd++;
+            while (portEnd < to && isDigit(str.charAt(portEnd))) {
+                portEnd++;
+            }
+        }
+        if (portEnd != to) {
+            return false;
+        }
+        if (portEnd > portStart) {
+            url.port = parsePort(str, portStart, portEnd);
+            if (url.port < 0) {
+                return false; // this can happen for big numbers
+            }
+        }
+        url.hostSource = str;
+        url.hostStart = hostStart;
+        url.hostEnd = hostEnd;
+        if (ipv6) {
+            url.hostType = HostType.IPV6;
+        }
+        return true;
+    }
+
+    /**
+     * Checks an authority that is part of a URL, as {@link #isValidAuthority(String)} does,
+     * recording the host, its type and the port unless the authority validator matches it.
+     *
+     * @param value the URL
+     * @param url the components of the URL
+     * @return true if the authority is valid
+     */
+    private boolean isValidAuthority(final String value, final Components url) {
+        if (authorityValidator != null && authorityValidator.isValid(value.substring(url.authorityStart, url.authorityEnd))) {
+            return true;
+        }
+        if (!parseAuthority(value, url)) {
+            return false;
+        }
+        final String str = url.hostSource;
+        if (url.hostType == HostType.IPV6) {
+            return isIPv6Chars(str, url.hostStart, url.hostEnd)
+                    && InetAddressValidator.getInstance().isValidInet6Address(str, url.hostStart, url.hostEnd);
+        }
+        // try a hostname first since that's much more likely
+        if (domainValidator.isValidASCII(str, url.hostStart, url.hostEnd)) {
+            url.hostType = HostType.DOMAIN;
+        } else if (InetAddressValidator.getInstance().isValidInet4Address(str, url.hostStart, url.hostEnd)) {
+            url.hostType = HostType.IPV4;
+        } else {
+            return false;
+        }
+        return url.port <= MAX_UNSIGNED_16_BIT_INT;
+    }
+
+    /**
+     * Checks the characters of an IPv6 address against IPV6_REGEX.
+     */
+    private static boolean isIPv6Chars(final String str, final int start, final int end) {
+        if (str.startsWith("::FFFF:", start)) {
+            // (?:\\d{1,3}\\.){3}\\d{1,3}
+            int i = start + 7; // CHECKSTYLE IGNORE MagicNumber
+            for (int group = 0; group < 4; group++) { // CHECKSTYLE IGNORE MagicNumber
+                if (group > 0) {
+                    if (i >= end || str.charAt(i) != '.') {
+                        break;
+                    }
+                    i++;
+                }
+                final int digits = i;
+                while (i < end && i < digits + 3 && isDigit(str.charAt(i))) { // CHECKSTYLE IGNORE MagicNumber
+                    i++;
+                }
+                if (i == digits) {
+                    break;
+                }
+                if (group == 3 && i == end) { // CHECKSTYLE IGNORE MagicNumber
+                    return true;
+                }
+            }
+        }
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            final char ch = str.charAt(i);
+            if (ch != ':' && !isHexDigit(ch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks a path that is part of a URL, as {@link #isValidPath(String)} does,
+     * without normalizing it.
+     *
+     * @param value the URL
+     * @param start the index of the first character of the path
+     * @param end the index after the last character of the path
+     * @return true if the path is valid
+     */
+    private boolean isValidPath(final String value, final int start, final int end) {
+        // the path is empty or starts with a slash, as PATH_REGEX requires,
+        // and has no characters other than those of PATH_REGEX and non-ASCII characters
+        boolean doubleSlash = false;
+        int depth = 0; // the number of segments that a ".." segment can remove
+        int i = start;
+        while (i < end) {
+            // skip the slashes, normalization removes redundant slashes
+            final int slashes = i;
+            while (i < end && value.charAt(i) == '/') {
+                i++;
+            }
+            if (i - slashes > 1) {
+                doubleSlash = true;
+            }
+            final int segment = i;
+            while (i < end && value.charAt(i) != '/') {
+                if (value.charAt(i) >= 0x80) { // CHECKSTYLE IGNORE MagicNumber
+                    return false;
+                }
+                i++;
+            }
+            final int length = i - segment;
+            if (length == 2 && value.charAt(segment) == '.' && value.charAt(segment + 1) == '.') {
+                if (depth == 0) {
+                    return false; // Trying to go to the parent dir
+                }
+                depth--;
+            } else if (length > 1 || length == 1 && value.charAt(segment) != '.') {
+                depth++;
+            }
+        }
+        return !doubleSlash || isOn(ALLOW_2_SLASHES);
+    }
+
+    /**
+     * Finds the components of a URL with a single left to right scan, accepting
+     * the URI syntax that <code>java.net.URI</code> accepts.
+     *
+     * @param value the URL, not null
+     * @return the components of the URL, or null if it is not a valid absolute URI
+     */
+    private static Components parse(final String value) {
+        final int length = value.length();
+        final Components url = new Components();
+
+        // scheme = alpha *( alpha | digit | "+" | "-" | "." ) ":"
+        int p = 0;
+        while (p < length && isIn(SCHEME_CHARS, value.charAt(p))) {
+            p++;
+        }
+        if (p == length || value.charAt(p) != ':' || !isAlpha(value.charAt(0))) {
+            return null;
+        }
+        url.schemeEnd = p;
+        p++;
+
+        if (p < length && value.charAt(p) == '/') {
+            // hier_part = ( "//" authority path | path ) [ "?" query ]
+            if (p + 1 < length && value.charAt(p + 1) == '/') {
+                final int start = p + 2;
+                p = scanURIChars(value, start, length, REG_NAME_CHARS);
+                if (p < length && "/?#".indexOf(value.charAt(p)) < 0) {
+                    // java.net.URI only accepts an IPv6 reference in a server authority
+                    p = start;
+                    while (p < length && "/?#".indexOf(value.charAt(p)) < 0) {
+                        p++;
+                    }
+                    if (!isServerAuthority(value, start, p)) {
+                        return null;
+                    }
+                }
+                if (p > start) {
+                    url.authorityStart = start;
+                    url.authorityEnd = p;
+                } else if (p == length) {
+                    return null; // an empty authority must be followed by something
+                }
+            }
+            url.pathStart = p;
+            p = scanURIChars(value, p, length, PATH_CHARS);
+            url.pathEnd = p;
+            if (p < length && value.charAt(p) == '?') {
+                url.queryStart = p + 1;
+                p = scanURIChars(value, p + 1, length, URIC_CHARS);
+                url.queryEnd = p;
+            }
+        } else {
+            // opaque_part = uric_no_slash *uric
+            final int start = p;
+            p = scanURIChars(value, p, length, URIC_CHARS);
+            if (p == start) {
+                return null;
+            }
+        }
+        if (p < length && value.charAt(p) == '#') {
+            url.fragmentStart = p + 1;
+            p = scanURIChars(value, p + 1, length, URIC_CHARS);
+        }
+        return p < length ? null : url;
+    }
+
+    /**
+     * Splits a URL into its components as the regular expression of RFC 3986,
+     * Appendix B does: <code>^(([^:/?#]+):)?(//([^/?#]*))?([^?#]*)(\?([^#]*))?(#(.*))?</code>.
+     * Unlike {@link #parse(String)} this accepts any string.
+     *
+     * @param value the URL, not null
+     * @return the components of the URL
+     */
+    private static Components split(final String value) {
+        final int length = value.length();
+        final Components url = new Components();
+        int p = scanTo(value, 0, ":/?#");
+        if (p > 0 && p < length && value.charAt(p) == ':') {
+            url.schemeEnd = p;
+            p++;
+        } else {
+            p = 0;
+        }
+        if (value.startsWith("//", p)) {
+            final int start = p + 2;
+            p = scanTo(value, start, "/?#");
+            if (p > start) {
+                url.authorityStart = start;
+                url.authorityEnd = p;
+            }
+        }
+        url.pathStart = p;
+        p = scanTo(value, p, "?#");
+        url.pathEnd = p;
+        if (p < length && value.charAt(p) == '?') {
+            url.queryStart = p + 1;
+            p = scanTo(value, p + 1, "#");
+            url.queryEnd = p;
+        }
+        if (p < length) {
+            url.fragmentStart = p + 1;
+        }
+        return url;
+    }
+
+    /**
+     * Validates a URL with a single left to right scan, giving the same results
+     * as the validation with <code>java.net.URI</code>. The scan accepts the URI
+     * syntax that <code>java.net.URI</code> accepts and checks the components
+     * as {@link #isValidScheme(String)}, {@link #isValidAuthority(String)},
+     * {@link #isValidPath(String)}, {@link #isValidQuery(String)} and
+     * {@link #isValidFragment(String)} do.
+     *
+     * @param value the URL, not null
+     * @return the components of the URL, or null if it is not valid
+     */
+    private Components scan(final String value) {
+        final Components url = parse(value);
+        if (url == null || !isAllowedScheme(value, url.schemeEnd)) {
+            return null;
+        }
+
+        final boolean file = url.schemeEnd == 4 && value.startsWith("file"); // CHECKSTYLE IGNORE MagicNumber
+        if (url.authorityStart < 0) {
+            return file ? url : null; // Special case - file: allows an empty authority
+        }
+        if (file) {
+            final int colon = value.indexOf(':', url.authorityStart);
+            if (colon >= 0 && colon < url.authorityEnd) {
+                return null;
+            }
+        }
+        if (!isValidAuthority(value, url)
+                || !isValidPath(value, url.pathStart, url.pathEnd)
+                || url.fragmentStart >= 0 && isOn(NO_FRAGMENTS)) {
+            return null;
+        }
+        return url;
+    }
+
 }
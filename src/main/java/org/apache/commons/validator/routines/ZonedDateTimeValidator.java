@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.FormatStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.Locale;
+
+/**
+ * <p><b>Date-Time Validation</b> and Conversion routines (<code>java.time.ZonedDateTime</code>).</p>
+ *
+ * <p>This validator provides a number of methods for validating/converting
+ *    a <code>String</code> date-time value to a <code>java.time.ZonedDateTime</code> using
+ *    <code>java.time.format.DateTimeFormatter</code> to parse either:</p>
+ *    <ul>
+ *       <li>using the default format for the default <code>Locale</code></li>
+ *       <li>using a specified pattern with the default <code>Locale</code></li>
+ *       <li>using the default format for a specified <code>Locale</code></li>
+ *       <li>using a specified pattern with a specified <code>Locale</code></li>
+ *    </ul>
+ *
+ * <p>The value needs a date and a time. A zone parsed from the value is
+ *    used; otherwise the value is in the zone given to <code>validate()</code>,
+ *    or the system default zone, and a value with just an offset is converted
+ *    to that zone. A local time which does not exist in the zone, because of a
+ *    daylight saving change, is invalid.</p>
+ *
+ * <p>Unlike {@link CalendarValidator} values are always parsed strictly and
+ *    the formatters are created once per pattern and <code>Locale</code>;
+ *    see {@link AbstractTemporalValidator}.</p>
+ *
+ * <p>Once a value has been successfully converted the following
+ *    methods can be used to compare the dates of two values, each in
+ *    its own zone, as {@link LocalDateValidator} does:</p>
+ *    <ul>
+ *       <li><code>compareDates()</code> compares the day, month and
+ *           year of two values.</li>
+ *       <li><code>compareWeeks()</code> compares the week and
+ *           week based year of two values.</li>
+ *       <li><code>compareMonths()</code> compares the month and
+ *           year of two values.</li>
+ *       <li><code>compareQuarters()</code> compares the quarter and
+ *           year of two values.</li>
+ *       <li><code>compareYears()</code> compares the
+ *           year of two values.</li>
+ *    </ul>
+ *
+ * <p>So that the same mechanism used for parsing an <i>input</i> value
+ *    for validation can be used to format <i>output</i>, corresponding
+ *    <code>format()</code> methods are also provided.</p>
+ *
+ * @since 1.9.1
+ */
+public class ZonedDateTimeValidator extends AbstractTemporalValidator {
+
+    private static final long serialVersionUID = -7716094916713516331L;
+
+    private static final ZonedDateTimeValidator VALIDATOR = new ZonedDateTimeValidator();
+
+    private static final TemporalQuery<ZonedDateTime> QUERY = ZonedDateTimeValidator::toZonedDateTime;
+
+    /**
+     * Converts a parsed value, rejecting a local time in a gap of its zone,
+     * such as a time skipped by a daylight saving change, unless an offset
+     * was parsed.
+     */
+    private static ZonedDateTime toZonedDateTime(final TemporalAccessor parsed) {
+        final ZonedDateTime value = ZonedDateTime.from(parsed);
+        if (!parsed.isSupported(ChronoField.OFFSET_SECONDS) && !value.toLocalDateTime().equals(LocalDateTime.from(parsed))) {
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * Gets the singleton instance of this validator.
+     * @return A singleton instance of the ZonedDateTimeValidator.
+     */
+    public static ZonedDateTimeValidator getInstance() {
+        return VALIDATOR;
+    }
+
+    /**
+     * Constructs an instance with <i>short</i> date and time styles.
+     */
+    public ZonedDateTimeValidator() {
+        this(FormatStyle.SHORT, FormatStyle.SHORT);
+    }
+
+    /**
+     * Constructs an instance with the specified <i>date</i> and
+     * <i>time</i> styles.
+     *
+     * @param dateStyle the date style to use for Locale validation.
+     * @param timeStyle the time style to use for Locale validation.
+     * @throws IllegalArgumentException if a style is {@code null}
+     */
+    public ZonedDateTimeValidator(final FormatStyle dateStyle, final FormatStyle timeStyle) {
+        super(dateStyle, timeStyle);
+        if (dateStyle == null || timeStyle == null) {
+            throw new IllegalArgumentException("A date and time style are required");
+        }
+    }
+
+    /**
+     * <p>Compare Dates (day, month and year - not time).</p>
+     *
+     * @param value The <code>ZonedDateTime</code> value to check.
+     * @param compare The <code>ZonedDateTime</code> to compare the value to.
+     * @return Zero if the dates are equal, -1 if first
+     * date is less than the seconds and +1 if the first
+     * date is greater than.
+     */
+    public int compareDates(final ZonedDateTime value, final ZonedDateTime compare) {
+        return LocalDateValidator.getInstance().compareDates(value.toLocalDate(), compare.toLocalDate());
+    }
+
+    /**
+     * <p>Compare Months (month and year).</p>
+     *
+     * @param value The <code>ZonedDateTime</code> value to check.
+     * @param compare The <code>ZonedDateTime</code> to compare the value to.
+     * @return Zero if the months are equal, -1 if first
+     * parameter's month is less than the seconds and +1 if the first
+     * parameter's month is greater than.
+     */
+    public int compareMonths(final ZonedDateTime value, final ZonedDateTime compare) {
+        return LocalDateValidator.getInstance().compareMonths(value.toLocalDate(), compare.toLocalDate());
+    }
+
+    /**
+     * <p>Compare Quarters (quarter and year).</p>
+     *
+     * @param value The <code>ZonedDateTime</code> value to check.
+     * @param compare The <code>ZonedDateTime</code> to compare the value to.
+     * @return Zero if the quarters are equal, -1 if first
+     * parameter's quarter is less than the seconds and +1 if the first
+     * parameter's quarter is greater than.
+     */
+    public int compareQuarters(final ZonedDateTime value, final ZonedDateTime compare) {
+        return compareQuarters(value, compare, 1);
+    }
+
+    /**
+     * <p>Compare Quarters (quarter and year).</p>
+     *
+     * @param value The <code>ZonedDateTime</code> value to check.
+     * @param compare The <code>ZonedDateTime</code> to compare the value to.
+     * @param monthOfFirstQuarter The  month that the first quarter starts.
+     * @return Zero if the quarters are equal, -1 if first
+     * parameter's quarter is less than the seconds and +1 if the first
+     * parameter's quarter is greater than.
+     */
+    public int compareQuarters(final ZonedDateTime value, final ZonedDateTime compare, final int monthOfFirstQuarter) {
+        return LocalDateValidator.getInstance().compareQuarters(value.toLocalDate(), compare.toLocalDate(), monthOfFirstQuarter);
+    }
+
+    /**
+     * <p>Compare Weeks (week and week based year).</p>
+     *
+     * @param value The <code>ZonedDateTime</code> value to check.
+     * @param compare The <code>ZonedDateTime</code> to compare the value to.
+     * @param locale The locale which defines the weeks, system default if null.
+     * @return Zero if the weeks are equal, -1 if first
+     * parameter's week is less than the seconds and +1 if the first
+     * parameter's week is greater than.
+     */
+    public int compareWeeks(final ZonedDateTime value, final ZonedDateTime compare, final Locale locale) {
+        return LocalDateValidator.getInstance().compareWeeks(value.toLocalDate(), compare.toLocalDate(), locale);
+    }
+
+    /**
+     * <p>Compare Years.</p>
+     *
+     * @param value The <code>ZonedDateTime</code> value to check.
+     * @param compare The <code>ZonedDateTime</code> to compare the value to.
+     * @return Zero if the years are equal, -1 if first
+     * parameter's year is less than the seconds and +1 if the first
+     * parameter's year is greater than.
+     */
+    public int compareYears(final ZonedDateTime value, final ZonedDateTime compare) {
+        return LocalDateValidator.getInstance().compareYears(value.toLocalDate(), compare.toLocalDate());
+    }
+
+    /**
+     * <p>Returns the query converting a parsed value to a <code>ZonedDateTime</code>.</p>
+     *
+     * @return The <code>ZonedDateTime</code> query.
+     */
+    @Override
+    protected TemporalQuery<?> getQuery() {
+        return QUERY;
+    }
+
+    /**
+     * <p>Parse the value in the specified zone, or the system default zone,
+     *    unless the value has its own zone.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @param locale The locale to use for the format, system default if null.
+     * @param zone The zone of the value if it has none, system default if null.
+     * @return The parsed value if valid or {@code null} if invalid.
+     */
+    @Override
+    protected Object parse(final String value, final String pattern, final Locale locale, final ZoneId zone) {
+        return super.parse(value, pattern, locale, zone == null ? ZoneId.systemDefault() : zone);
+    }
+
+    /**
+     * <p>Validate/convert a <code>ZonedDateTime</code> using the default
+     *    <code>Locale</code> and zone.
+     *
+     * @param value The value validation is being performed on.
+     * @return The parsed <code>ZonedDateTime</code> if valid or {@code null} if invalid.
+     */
+    public ZonedDateTime validate(final String value) {
+        return (ZonedDateTime) parse(value, (String) null, (Locale) null, (ZoneId) null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>ZonedDateTime</code> using the
+     *    specified <code>Locale</code>.
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale to use for the date format, system default if null.
+     * @return The parsed <code>ZonedDateTime</code> if valid or {@code null} if invalid.
+     */
+    public ZonedDateTime validate(final String value, final Locale locale) {
+        return (ZonedDateTime) parse(value, (String) null, locale, (ZoneId) null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>ZonedDateTime</code> using the
+     *    specified <code>Locale</code> and zone.
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale to use for the date format, system default if null.
+     * @param zone The zone of the value if it has none, system default if null.
+     * @return The parsed <code>ZonedDateTime</code> if valid or {@code null} if invalid.
+     */
+    public ZonedDateTime validate(final String value, final Locale locale, final ZoneId zone) {
+        return (ZonedDateTime) parse(value, (String) null, locale, zone);
+    }
+
+    /**
+     * <p>Validate/convert a <code>ZonedDateTime</code> using the
+     *    specified <i>pattern</i>.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @return The parsed <code>ZonedDateTime</code> if valid or {@code null} if invalid.
+     */
+    public ZonedDateTime validate(final String value, final String pattern) {
+        return (ZonedDateTime) parse(value, pattern, (Locale) null, (ZoneId) null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>ZonedDateTime</code> using the
+     *    specified pattern and/ or <code>Locale</code>.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @param locale The locale to use for the date format, system default if null.
+     * @return The parsed <code>ZonedDateTime</code> if valid or {@code null} if invalid.
+     */
+    public ZonedDateTime validate(final String value, final String pattern, final Locale locale) {
+        return (ZonedDateTime) parse(value, pattern, locale, (ZoneId) null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>ZonedDateTime</code> using the
+     *    specified pattern, <code>Locale</code> and zone.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @param locale The locale to use for the date format, system default if null.
+     * @param zone The zone of the value if it has none, system default if null.
+     * @return The parsed <code>ZonedDateTime</code> if valid or {@code null} if invalid.
+     */
+    public ZonedDateTime validate(final String value, final String pattern, final Locale locale, final ZoneId zone) {
+        return (ZonedDateTime) parse(value, pattern, locale, zone);
+    }
+
+    /**
+     * <p>Validate/convert a <code>ZonedDateTime</code> using the
+     *    specified pattern and zone.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if {@code null}.
+     * @param zone The zone of the value if it has none, system default if null.
+     * @return The parsed <code>ZonedDateTime</code> if valid or {@code null} if invalid.
+     */
+    public ZonedDateTime validate(final String value, final String pattern, final ZoneId zone) {
+        return (ZonedDateTime) parse(value, pattern, (Locale) null, zone);
+    }
+
+    /**
+     * <p>Validate/convert a <code>ZonedDateTime</code> using the
+     *    specified zone.
+     *
+     * @param value The value validation is being performed on.
+     * @param zone The zone of the value if it has none, system default if null.
+     * @return The parsed <code>ZonedDateTime</code> if valid or {@code null} if invalid.
+     */
+    public ZonedDateTime validate(final String value, final ZoneId zone) {
+        return (ZonedDateTime) parse(value, (String) null, (Locale) null, zone);
+    }
+}
@@ -87,6 +87,12 @@
  * <li><a href="TimeValidator.html">Time Validator</a> - validates times
  * converting to a <code>java.util.Calendar</code> type.</li>
  * </ul>
+ * <p>
+ * The <a href="LocalDateValidator.html">LocalDate</a>, <a href="LocalTimeValidator.html">LocalTime</a>
+ * and <a href="ZonedDateTimeValidator.html">ZonedDateTime</a> validators provide the same
+ * methods for the <code>java.time</code> types. They always parse strictly and reuse
+ * an immutable <code>DateTimeFormatter</code> for each pattern and <code>Locale</code>.
+ * </p>
  * <a id="date.validate"></a>
  * <h2>2.2 Validating a Date Value</h2>
  * <p>
@@ -639,6 +645,16 @@
  * ... // invalid
  * }
  * </pre>
+ * <p>
+ * <a href="InetAddressRangeValidator.html">InetAddressRangeValidator</a> also
+ * checks that the address is within one of a set of CIDR ranges:
+ * </p>
+ * <pre>
+ * InetAddressRangeValidator allowed = new InetAddressRangeValidator("10.0.0.0/8", "2001:db8::/32");
+ * if (!allowed.isValid(candidateInetAddress)) {
+ * ... // invalid or not allowed
+ * }
+ * </pre>
  * <a id="other.email"></a>
  * <h2>4.7 Email Address Validation</h2>
  * <p>
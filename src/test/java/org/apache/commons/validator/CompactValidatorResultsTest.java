@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test CompactValidatorResults.
+ */
+public class CompactValidatorResultsTest {
+
+    private static final String[][] NAMES = { { "foo", "123", "1/2/2024" }, { " ", "abc", "2/30/2024" }, { "", null, "" }, { "foo", "-1", "x" } };
+
+    private static void addAction(final ValidatorResources resources, final String name, final String className, final String method,
+            final String depends) {
+        final ValidatorAction va = new ValidatorAction();
+        va.setName(name);
+        va.setClassName(className);
+        va.setMethod(method);
+        va.setMethodParams("java.lang.Object,org.apache.commons.validator.Field");
+        if (depends != null) {
+            va.setDepends(depends);
+        }
+        resources.addValidatorAction(va);
+    }
+
+    private static Field createField(final String property, final String depends) {
+        final Field field = new Field();
+        field.setProperty(property);
+        field.setDepends(depends);
+        return field;
+    }
+
+    /**
+     * Checks that the results contain the same results for each field.
+     */
+    private static void assertSameResults(final ValidatorResults expected, final ValidatorResults actual) {
+        assertEquals(expected.isEmpty(), actual.isEmpty());
+        assertEquals(expected.getPropertyNames(), actual.getPropertyNames());
+        for (final String key : expected.getPropertyNames()) {
+            final ValidatorResult expectedResult = expected.getValidatorResult(key);
+            final ValidatorResult actualResult = actual.getValidatorResult(key);
+            assertNotNull(actualResult, key);
+            assertSame(expectedResult.getField(), actualResult.getField(), key);
+            int actions = 0;
+            for (final Iterator<String> i = expectedResult.getActions(); i.hasNext(); actions++) {
+                final String action = i.next();
+                assertTrue(actualResult.containsAction(action), key + "[" + action + "]");
+                assertEquals(expectedResult.isValid(action), actualResult.isValid(action), key + "[" + action + "]");
+                assertEquals(expectedResult.getResult(action), actualResult.getResult(action), key + "[" + action + "]");
+            }
+            for (final Iterator<String> i = actualResult.getActions(); i.hasNext(); actions--) {
+                i.next();
+            }
+            assertEquals(0, actions, key);
+        }
+        assertEquals(expected.getResultValueMap(), actual.getResultValueMap());
+    }
+
+    private ValidatorResources resources;
+
+    private NameBean createNameBean(final String[] names) {
+        final NameBean bean = new NameBean();
+        bean.setFirstName(names[0]);
+        bean.setMiddleName(names[1]);
+        bean.setLastName(names[2]);
+        return bean;
+    }
+
+    @BeforeEach
+    protected void setUp() {
+        resources = new ValidatorResources();
+        addAction(resources, "required", GenericValidatorImpl.class.getName(), "validateRequired", null);
+        addAction(resources, "int", GenericValidatorImpl.class.getName(), "validateInt", "required");
+        addAction(resources, "positive", GenericValidatorImpl.class.getName(), "validatePositive", "int");
+        addAction(resources, "date", ValidatorTest.class.getName(), "formatDate", null);
+
+        final FormSet fs = new FormSet();
+        final Form nameForm = new Form();
+        nameForm.setName("nameForm");
+        nameForm.addField(createField("firstName", "required"));
+        nameForm.addField(createField("middleName", "positive"));
+        nameForm.addField(createField("lastName", "date"));
+        // a second field with the same key replaces the results of the first
+        nameForm.addField(createField("firstName", "date"));
+        fs.addForm(nameForm);
+
+        final Form indexedForm = new Form();
+        indexedForm.setName("indexedForm");
+        final Field field = createField("value", "int");
+        field.setIndexedListProperty("values");
+        indexedForm.addField(field);
+        fs.addForm(indexedForm);
+
+        resources.addFormSet(fs);
+        resources.process();
+    }
+
+    /**
+     * Test validating the elements of an indexed field.
+     */
+    @Test
+    public void testIndexedField() throws ValidatorException {
+        final ValidatorTest.IndexedBean bean = new ValidatorTest.IndexedBean();
+        for (final String value : new String[] { "1", "2", "x", null }) {
+            final ValueBean element = new ValueBean();
+            element.setValue(value);
+            bean.getValues().add(element);
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 4; i++) {
+                final Validator validator = new Validator(resources, "indexedForm");
+                validator.setParameter(Validator.BEAN_PARAM, bean);
+                validator.setOnlyReturnErrors(i % 2 == 1);
+                validator.setExecutor(i < 2 ? null : executor);
+                final ValidatorResults expected = validator.validate();
+                validator.setCompactResults(true);
+                final ValidatorResults actual = validator.validate();
+                assertTrue(actual instanceof CompactValidatorResults);
+                assertSameResults(expected, actual);
+                assertFalse(actual.getValidatorResult("values[].value").isValid("int"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test that a layout is kept until the execution plan of one of its fields changes.
+     */
+    @Test
+    public void testLayout() throws ValidatorException {
+        final Form form = resources.getForm(Locale.getDefault(), "nameForm");
+        final CompactValidatorResults.Layout layout = form.getResultLayout(resources.getActions());
+        assertSame(layout, form.getResultLayout(resources.getActions()));
+
+        final ValidatorResources other = new ValidatorResources();
+        addAction(other, "required", GenericValidatorImpl.class.getName(), "validateRequired", null);
+        other.getValidatorAction("required").setDepends("");
+        assertSame(layout, form.getResultLayout(resources.getActions()), "other resources");
+
+        resources.getValidatorAction("positive").setDepends("");
+        assertNotSame(layout, form.getResultLayout(resources.getActions()), "dependencies changed");
+
+        final Validator validator = new Validator(resources, "nameForm");
+        for (final String[] names : NAMES) {
+            validator.setParameter(Validator.BEAN_PARAM, createNameBean(names));
+            validator.setCompactResults(false);
+            final ValidatorResults expected = validator.validate();
+            validator.setCompactResults(true);
+            assertSameResults(expected, validator.validate());
+        }
+    }
+
+    /**
+     * Test merging results.
+     */
+    @Test
+    public void testMerge() throws ValidatorException {
+        final Validator validator = new Validator(resources, "nameForm");
+        for (final String[] first : NAMES) {
+            for (final String[] second : NAMES) {
+                validator.setCompactResults(false);
+                validator.setParameter(Validator.BEAN_PARAM, createNameBean(first));
+                final ValidatorResults expected = validator.validate();
+                validator.setParameter(Validator.BEAN_PARAM, createNameBean(second));
+                final ValidatorResults expectedOther = validator.validate();
+                expected.merge(expectedOther);
+
+                validator.setCompactResults(true);
+                validator.setParameter(Validator.BEAN_PARAM, createNameBean(first));
+                final ValidatorResults actual = validator.validate();
+                final ValidatorResults mergedPlain = validator.validate();
+                validator.setParameter(Validator.BEAN_PARAM, createNameBean(second));
+                actual.merge(validator.validate());
+                assertSameResults(expected, actual);
+
+                mergedPlain.merge(expectedOther);
+                assertSameResults(expected, mergedPlain);
+
+                final ValidatorResults plain = new ValidatorResults();
+                plain.merge(actual);
+                assertSameResults(expected, plain);
+            }
+        }
+    }
+
+    /**
+     * Test that the results are the same as those recorded in maps.
+     */
+    @Test
+    public void testSameResults() throws ValidatorException {
+        final Validator validator = new Validator(resources, "nameForm");
+        for (final String[] names : NAMES) {
+            for (final boolean onlyReturnErrors : new boolean[] { false, true }) {
+                validator.setParameter(Validator.BEAN_PARAM, createNameBean(names));
+                validator.setOnlyReturnErrors(onlyReturnErrors);
+                validator.setCompactResults(false);
+                final ValidatorResults expected = validator.validate();
+                validator.setCompactResults(true);
+                final ValidatorResults actual = validator.validate();
+                assertTrue(actual instanceof CompactValidatorResults);
+                assertSameResults(expected, actual);
+
+                final ValidatorResult firstName = expected.getValidatorResult("firstName");
+                if (firstName != null) {
+                    assertFalse(firstName.containsAction("required"), "replaced by the second field");
+                }
+                actual.clear();
+                assertTrue(actual.isEmpty());
+                assertTrue(actual.getPropertyNames().isEmpty());
+            }
+        }
+    }
+
+    /**
+     * Test that the results are serialized as ValidatorResults.
+     */
+    @Test
+    public void testSerialization() throws Exception {
+        final Validator validator = new Validator(resources, "nameForm");
+        validator.setParameter(Validator.BEAN_PARAM, createNameBean(NAMES[0]));
+        final ValidatorResults expected = validator.validate();
+        validator.setCompactResults(true);
+        final ValidatorResults results = validator.validate();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(results);
+        }
+        final Object copy;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            copy = ois.readObject();
+        }
+        assertEquals(ValidatorResults.class, copy.getClass());
+        final ValidatorResults actual = (ValidatorResults) copy;
+        assertEquals(expected.getPropertyNames(), actual.getPropertyNames());
+        assertTrue(actual.getValidatorResult("middleName").isValid("positive"));
+        assertEquals(expected.getResultValueMap().keySet(), actual.getResultValueMap().keySet());
+    }
+}
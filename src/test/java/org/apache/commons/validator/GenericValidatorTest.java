@@ -17,8 +17,11 @@
 package org.apache.commons.validator;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -26,6 +29,32 @@ import org.junit.jupiter.api.Test;
  */
 public class GenericValidatorTest {
 
+    @Test
+    public void testMatchRegexp() {
+        assertTrue(GenericValidator.matchRegexp("abc", "[a-z]+"));
+        assertTrue(GenericValidator.matchRegexp("xyz", "[a-z]+"), "cached");
+        assertFalse(GenericValidator.matchRegexp("abc1", "[a-z]+"));
+        assertFalse(GenericValidator.matchRegexp("abc", ""));
+        assertFalse(GenericValidator.matchRegexp("abc", null));
+        for (int i = 0; i < 300; i++) {
+            assertTrue(GenericValidator.matchRegexp("a" + i, "a" + i), "more than the cache holds");
+        }
+    }
+
+    @Test
+    public void testMatchRegexpTimeout() {
+        assertTrue(GenericValidator.matchRegexp("abc", "[a-z]+", Duration.ofSeconds(1)));
+        assertTrue(GenericValidator.matchRegexp("abc", "[a-z]+", Duration.ofSeconds(2)), "other timeout");
+        assertFalse(GenericValidator.matchRegexp("abc1", "[a-z]+", Duration.ofSeconds(1)));
+        assertFalse(GenericValidator.matchRegexp(null, "[a-z]+", Duration.ofSeconds(1)));
+        assertFalse(GenericValidator.matchRegexp("abc", null, Duration.ofSeconds(1)));
+
+        // (.*a){12} backtracks through about n^12 paths to reject this value
+        final String value = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!";
+        assertFalse(GenericValidator.matchRegexp(value, "(.*a){12}", Duration.ofMillis(100)));
+        assertThrows(IllegalArgumentException.class, () -> GenericValidator.matchRegexp("aab", "(a+)+b", Duration.ofSeconds(1)));
+    }
+
     @Test
     public void testMaxLength() {
 
@@ -20,6 +20,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Locale;
@@ -110,6 +112,46 @@ public class RetrieveFormTest {
 
     }
 
+    /**
+     * Test that a form found before a <code>FormSet</code> is added is not returned afterwards.
+     */
+    @Test
+    public void testFormAfterAddFormSet() {
+
+        final String formKey = FORM_PREFIX + "default";
+        checkForm(Locale.ITALIAN, formKey, "default");
+
+        final FormSet formSet = new FormSet();
+        formSet.setLanguage("it");
+        final Form form = new Form();
+        form.setName(formKey);
+        final Field field = new Field();
+        field.setProperty("testProperty");
+        field.addVar("localeVar", "added", null);
+        form.addField(field);
+        formSet.addForm(form);
+        resources.addFormSet(formSet);
+
+        checkForm(Locale.ITALIAN, formKey, "added");
+    }
+
+    /**
+     * Test forms for Locales that no formset declares, including Locales with a script.
+     */
+    @Test
+    public void testFormForOtherLocale() {
+
+        final String formKey = FORM_PREFIX + "language_country_variant";
+
+        checkForm(new Locale("fr", "BE"), formKey, "fr");
+        checkForm(new Locale("fr", "CA", "YYY"), formKey, "fr_CA");
+        checkForm(Locale.forLanguageTag("fr-Latn-CA-x-test"), formKey, "fr_CA");
+        checkForm(Locale.forLanguageTag("fr-Latn-FR"), formKey, "fr_FR");
+        checkForm(Locale.ROOT, formKey, "default");
+        checkForm(Locale.GERMANY, formKey, "default");
+        checkFormNotFound(Locale.GERMANY, "INVALID_NAME");
+    }
+
     /**
      * Test a form not defined
      */
@@ -222,4 +264,24 @@ public class RetrieveFormTest {
 
     }
 
+    /**
+     * Test retrieving forms from resources read back from a snapshot.
+     */
+    @Test
+    public void testSnapshot() throws IOException {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        resources.writeSnapshot(out);
+        resources = ValidatorResources.readSnapshot(new ByteArrayInputStream(out.toByteArray()));
+
+        final String formKey = FORM_PREFIX + "language_country_variant";
+        checkForm(Locale.US, formKey, "default");
+        checkForm(Locale.FRENCH, formKey, "fr");
+        checkForm(Locale.FRANCE, formKey, "fr_FR");
+        checkForm(Locale.CANADA_FRENCH, formKey, "fr_CA");
+        checkForm(CANADA_FRENCH_XXX, formKey, "fr_CA_XXX");
+        checkFormNotFound(Locale.US, "INVALID_NAME");
+
+    }
+
 }
@@ -16,9 +16,23 @@
  */
 package org.apache.commons.validator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.zip.CRC32;
 
 import org.junit.jupiter.api.Test;
 
@@ -27,6 +41,59 @@ import org.junit.jupiter.api.Test;
  */
 public class ValidatorResourcesTest {
 
+    private static ValidatorResources createResources(final String className) {
+        final ValidatorResources resources = new ValidatorResources();
+        final ValidatorAction va = new ValidatorAction();
+        va.setName("required");
+        va.setClassName(className);
+        va.setMethod("validateRequired");
+        va.setMethodParams("java.lang.Object,org.apache.commons.validator.Field");
+        resources.addValidatorAction(va);
+        resources.process();
+        return resources;
+    }
+
+    /**
+     * Test loading the validator actions before they are executed.
+     */
+    @Test
+    public void testLoadValidatorActions() throws Exception {
+        final ValidatorResources resources = createResources(GenericValidatorImpl.class.getName());
+        final FormSet formSet = new FormSet();
+        final Form form = new Form();
+        form.setName("valueForm");
+        final Field field = new Field();
+        field.setProperty("value");
+        field.setDepends("required");
+        form.addField(field);
+        formSet.addForm(form);
+        resources.addFormSet(formSet);
+        resources.process();
+        resources.loadValidatorActions(getClass().getClassLoader());
+
+        final ValueBean bean = new ValueBean();
+        bean.setValue("value");
+        final Validator validator = new Validator(resources, "valueForm");
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        // the actions are already loaded, so validating loads no classes
+        validator.setClassLoader(new ClassLoader(null) {
+            @Override
+            public Class<?> loadClass(final String name) throws ClassNotFoundException {
+                throw new ClassNotFoundException(name);
+            }
+        });
+        assertTrue(validator.validate().getValidatorResult("value").isValid("required"));
+    }
+
+    /**
+     * Test loading a validator action whose class does not exist.
+     */
+    @Test
+    public void testLoadValidatorActionsUnknownClass() {
+        final ValidatorResources resources = createResources("org.apache.commons.validator.UnknownValidator");
+        assertThrows(ValidatorException.class, () -> resources.loadValidatorActions(getClass().getClassLoader()));
+    }
+
     /**
      * Test null Input Stream for Validator Resources.
      */
@@ -43,4 +110,98 @@ public class ValidatorResourcesTest {
 
     }
 
+    /**
+     * Test that a snapshot whose content was changed is rejected.
+     */
+    @Test
+    public void testReadSnapshotCorrupt() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        createResources(GenericValidatorImpl.class.getName()).writeSnapshot(out);
+        final byte[] snapshot = out.toByteArray();
+
+        final byte[] corrupt = snapshot.clone();
+        corrupt[corrupt.length - 1] ^= 0x01;
+        assertThrows(StreamCorruptedException.class, () -> ValidatorResources.readSnapshot(new ByteArrayInputStream(corrupt)));
+
+        final byte[] version = snapshot.clone();
+        version[7] ^= 0x01;
+        assertThrows(StreamCorruptedException.class, () -> ValidatorResources.readSnapshot(new ByteArrayInputStream(version)));
+
+        assertThrows(StreamCorruptedException.class, () -> ValidatorResources.readSnapshot(new ByteArrayInputStream(new byte[24])));
+    }
+
+    /**
+     * Test that a snapshot holding a class the resources are not made of is rejected.
+     */
+    @Test
+    public void testReadSnapshotClassNotAllowed() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        createResources(GenericValidatorImpl.class.getName()).writeSnapshot(out);
+        final byte[] snapshot = out.toByteArray();
+
+        final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (ObjectOutputStream objects = new ObjectOutputStream(payload)) {
+            objects.writeObject(new Date());
+        }
+        final byte[] bytes = payload.toByteArray();
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        final ByteArrayOutputStream unknown = new ByteArrayOutputStream();
+        try (DataOutputStream data = new DataOutputStream(unknown)) {
+            data.write(snapshot, 0, 16);
+            data.writeInt(bytes.length);
+            data.writeLong(crc.getValue());
+            data.write(bytes);
+        }
+        assertThrows(InvalidClassException.class, () -> ValidatorResources.readSnapshot(new ByteArrayInputStream(unknown.toByteArray())));
+    }
+
+    /**
+     * Test that a snapshot whose length is larger than its content is rejected.
+     */
+    @Test
+    public void testReadSnapshotTruncated() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        createResources(GenericValidatorImpl.class.getName()).writeSnapshot(out);
+        final byte[] snapshot = out.toByteArray();
+
+        final byte[] truncated = Arrays.copyOf(snapshot, snapshot.length - 1);
+        assertThrows(EOFException.class, () -> ValidatorResources.readSnapshot(new ByteArrayInputStream(truncated)));
+
+        final byte[] length = snapshot.clone();
+        length[16] = 0x7f;
+        assertThrows(EOFException.class, () -> ValidatorResources.readSnapshot(new ByteArrayInputStream(length)));
+    }
+
+    /**
+     * Test validating with resources read back from a snapshot.
+     */
+    @Test
+    public void testSnapshot() throws Exception {
+        final ValidatorResources resources = createResources(GenericValidatorImpl.class.getName());
+        final FormSet formSet = new FormSet();
+        final Form form = new Form();
+        form.setName("valueForm");
+        final Field field = new Field();
+        field.setProperty("value");
+        field.setDepends("required");
+        form.addField(field);
+        formSet.addForm(form);
+        resources.addFormSet(formSet);
+        resources.process();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        resources.writeSnapshot(out);
+        final ValidatorResources snapshot = ValidatorResources.readSnapshot(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals("validateRequired", snapshot.getValidatorAction("required").getMethod());
+
+        final ValueBean bean = new ValueBean();
+        final Validator validator = new Validator(snapshot, "valueForm");
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        assertFalse(validator.validate().getValidatorResult("value").isValid("required"));
+
+        bean.setValue("value");
+        assertTrue(validator.validate().getValidatorResult("value").isValid("required"));
+    }
+
 }
@@ -19,15 +19,20 @@ package org.apache.commons.validator;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.validator.util.ValidatorUtils;
 import org.junit.jupiter.api.Test;
@@ -37,6 +42,14 @@ import org.junit.jupiter.api.Test;
  */
 public class ValidatorTest {
 
+    public static class IndexedBean {
+        private final List<ValueBean> values = new ArrayList<>();
+
+        public List<ValueBean> getValues() {
+            return values;
+        }
+    }
+
     public static class TestBean {
         private String letter;
         private String date;
@@ -78,6 +91,25 @@ public class ValidatorTest {
         return date;
     }
 
+    /**
+     * Records the key of the field and checks that its value is an integer.
+     */
+    public static boolean isIntKey(final Object bean, final Field field, final List<String> keys) {
+        keys.add(field.getKey());
+        return GenericValidator.isInt(ValidatorUtils.getValueAsString(bean, field.getProperty()));
+    }
+
+    /**
+     * Checks that the value of the field is an integer and that the results passed in are empty, throwing an exception if the value is "throw".
+     */
+    public static boolean isIntElement(final Object bean, final Field field, final ValidatorResults results) throws ValidatorException {
+        final String value = ValidatorUtils.getValueAsString(bean, field.getProperty());
+        if ("throw".equals(value)) {
+            throw new ValidatorException("Thrown for " + field.getKey());
+        }
+        return results.isEmpty() && GenericValidator.isInt(value);
+    }
+
     /**
      * Checks if the field is one upper case letter between 'A' and 'Z'.
      */
@@ -95,6 +127,14 @@ public class ValidatorTest {
         return false;
     }
 
+    /**
+     * Checks that the letter of the field is within the maximum length.
+     */
+    public static boolean isShortLetter(final Object bean, final Field field, final int maxLength) {
+        final String value = ValidatorUtils.getValueAsString(bean, field.getProperty());
+        return value != null && value.length() <= maxLength;
+    }
+
     private ValidatorResources setupDateResources(final String property, final String action) {
 
         final ValidatorResources resources = new ValidatorResources();
@@ -231,6 +271,396 @@ public class ValidatorTest {
         assertEquals(1, l.size(), "Validation of the letter 'AA'.");
     }
 
+    private ValidatorResources setupDependentResources(final String depends) {
+        final ValidatorResources resources = new ValidatorResources();
+
+        final ValidatorAction required = new ValidatorAction();
+        required.setName("required");
+        required.setClassName(GenericValidatorImpl.class.getName());
+        required.setMethod("validateRequired");
+        required.setMethodParams("java.lang.Object,org.apache.commons.validator.Field");
+        resources.addValidatorAction(required);
+
+        final ValidatorAction integer = new ValidatorAction();
+        integer.setName("int");
+        integer.setClassName(GenericValidatorImpl.class.getName());
+        integer.setMethod("validateInt");
+        integer.setMethodParams("java.lang.Object,org.apache.commons.validator.Field");
+        integer.setDepends("required");
+        resources.addValidatorAction(integer);
+
+        final FormSet fs = new FormSet();
+        final Form form = new Form();
+        form.setName("testForm");
+        final Field field = new Field();
+        field.setProperty("value");
+        field.setDepends(depends);
+        form.addField(field);
+        fs.addForm(form);
+
+        resources.addFormSet(fs);
+        resources.process();
+
+        return resources;
+    }
+
+    /**
+     * Verify that an action runs after the actions it depends on, and not at all if one of them fails.
+     */
+    @Test
+    public void testDependentActions() throws ValidatorException {
+        final ValidatorResources resources = setupDependentResources("int");
+
+        final ValueBean bean = new ValueBean();
+        final Validator validator = new Validator(resources, "testForm");
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+
+        ValidatorResult result = validator.validate().getValidatorResult("value");
+        assertFalse(result.isValid("required"));
+        assertFalse(result.containsAction("int"));
+
+        bean.setValue("abc");
+        result = validator.validate().getValidatorResult("value");
+        assertTrue(result.isValid("required"));
+        assertFalse(result.isValid("int"));
+
+        bean.setValue("123");
+        result = validator.validate().getValidatorResult("value");
+        assertTrue(result.isValid("required"));
+        assertTrue(result.isValid("int"));
+    }
+
+    /**
+     * Verify that actions added or changed after the resources were processed are used.
+     */
+    @Test
+    public void testDependentActionsChanged() throws ValidatorException {
+        final ValidatorResources resources = setupDependentResources("int");
+
+        final ValueBean bean = new ValueBean();
+        final Validator validator = new Validator(resources, "testForm");
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        assertFalse(validator.validate().getValidatorResult("value").containsAction("int"));
+
+        resources.getValidatorAction("int").setDepends("");
+        ValidatorResult result = validator.validate().getValidatorResult("value");
+        assertFalse(result.containsAction("required"));
+        assertFalse(result.isValid("int"));
+
+        final ValidatorAction longAction = new ValidatorAction();
+        longAction.setName("int");
+        longAction.setClassName(GenericValidatorImpl.class.getName());
+        longAction.setMethod("validateLong");
+        longAction.setMethodParams("java.lang.Object,org.apache.commons.validator.Field");
+        resources.addValidatorAction(longAction);
+        bean.setValue("12345678901");
+        result = validator.validate().getValidatorResult("value");
+        assertTrue(result.isValid("int"));
+    }
+
+    /**
+     * Verify that each bean of a batch is validated in turn.
+     */
+    @Test
+    public void testBatchValidation() throws ValidatorException {
+        final ValidatorResources resources = setupDependentResources("int");
+        final List<ValueBean> beans = new ArrayList<>();
+        for (final String value : new String[] { "1", "x", null, "4" }) {
+            final ValueBean bean = new ValueBean();
+            bean.setValue(value);
+            beans.add(bean);
+        }
+
+        final Validator validator = new Validator(resources, "testForm");
+        validator.setOnlyReturnErrors(true);
+        final List<Object> validated = new ArrayList<>();
+        final List<ValidatorResults> results = new ArrayList<>();
+        validator.validate(beans, (bean, result) -> {
+            validated.add(bean);
+            results.add(result);
+        });
+
+        assertEquals(beans, validated);
+        assertTrue(results.get(0).isEmpty());
+        assertFalse(results.get(1).getValidatorResult("value").isValid("int"));
+        assertFalse(results.get(2).getValidatorResult("value").isValid("required"));
+        assertTrue(results.get(3).isEmpty());
+    }
+
+    /**
+     * Verify that concurrent validations of the same form each get their own results.
+     */
+    @Test
+    public void testConcurrentValidation() throws Exception {
+        final ValidatorResources resources = setupDependentResources("int");
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                final String value = i % 2 == 0 ? Integer.toString(i) : "x" + i;
+                futures.add(executor.submit(() -> {
+                    final ValueBean bean = new ValueBean();
+                    bean.setValue(value);
+                    final Validator validator = new Validator(resources, "testForm");
+                    validator.setParameter(Validator.BEAN_PARAM, bean);
+                    return validator.validate().getValidatorResult("value").isValid("int");
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(i % 2 == 0, futures.get(i).get().booleanValue(), "Validation " + i);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Verify that each element of an indexed property is validated with a key referring to it, stopping at the first failure.
+     */
+    @Test
+    public void testIndexedField() throws ValidatorException {
+        final ValidatorResources resources = setupIndexedResources();
+
+        final IndexedBean bean = new IndexedBean();
+        for (final String value : new String[] { "1", "x", "3" }) {
+            final ValueBean element = new ValueBean();
+            element.setValue(value);
+            bean.getValues().add(element);
+        }
+        final List<String> keys = new ArrayList<>();
+
+        final Validator validator = new Validator(resources, "testForm");
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        validator.setParameter("java.util.List", keys);
+
+        final ValidatorResults results = validator.validate();
+        assertEquals(2, keys.size());
+        assertEquals("values[0].value", keys.get(0));
+        assertEquals("values[1].value", keys.get(1));
+        assertFalse(results.getValidatorResult("values[].value").isValid("intKey"));
+        assertEquals("values[].value", resources.getForm(Locale.getDefault(), "testForm").getField("values[].value").getKey());
+    }
+
+    /**
+     * Verify that validating the elements of an indexed property in parallel gives the same results as validating them in turn.
+     */
+    @Test
+    public void testIndexedFieldParallel() throws ValidatorException {
+        final ValidatorResources resources = setupIndexedResources();
+
+        final IndexedBean bean = new IndexedBean();
+        for (int i = 0; i < 100; i++) {
+            final ValueBean element = new ValueBean();
+            element.setValue(i == 50 || i == 70 ? "x" : Integer.toString(i));
+            bean.getValues().add(element);
+        }
+        final List<String> keys = Collections.synchronizedList(new ArrayList<>());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Validator validator = new Validator(resources, "testForm");
+            validator.setExecutor(executor);
+            validator.setParameter(Validator.BEAN_PARAM, bean);
+            validator.setParameter("java.util.List", keys);
+
+            final ValidatorResults results = validator.validate();
+            assertEquals(100, keys.size());
+            assertFalse(results.getValidatorResult("values[].value").isValid("intKey"));
+
+            bean.getValues().get(50).setValue("50");
+            bean.getValues().get(70).setValue("70");
+            assertTrue(validator.validate().getValidatorResult("values[].value").isValid("intKey"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Verify that validating the elements of an indexed property in parallel stops at the first element that fails or throws, and that each element
+     * is passed results of its own.
+     */
+    @Test
+    public void testIndexedFieldParallelFailure() throws ValidatorException {
+        final ValidatorResources resources = setupIndexedResources("isIntElement", "org.apache.commons.validator.ValidatorResults");
+
+        final IndexedBean bean = new IndexedBean();
+        for (final String value : new String[] { "1", "2", "x", "throw" }) {
+            final ValueBean element = new ValueBean();
+            element.setValue(value);
+            bean.getValues().add(element);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Validator validator = new Validator(resources, "testForm");
+            validator.setExecutor(executor);
+            validator.setParameter(Validator.BEAN_PARAM, bean);
+
+            // as in the calling thread, the element after the one that fails does not throw
+            assertFalse(validator.validate().getValidatorResult("values[].value").isValid("intKey"));
+
+            bean.getValues().get(2).setValue("3");
+            final ValidatorException e = assertThrows(ValidatorException.class, validator::validate);
+            assertEquals("Thrown for values[3].value", e.getMessage());
+
+            bean.getValues().get(3).setValue("4");
+            assertTrue(validator.validate().getValidatorResult("values[].value").isValid("intKey"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private ValidatorResources setupIndexedResources() {
+        return setupIndexedResources("isIntKey", "java.util.List");
+    }
+
+    private ValidatorResources setupIndexedResources(final String method, final String parameter) {
+        final ValidatorResources resources = new ValidatorResources();
+
+        final ValidatorAction va = new ValidatorAction();
+        va.setName("intKey");
+        va.setClassName("org.apache.commons.validator.ValidatorTest");
+        va.setMethod(method);
+        va.setMethodParams("java.lang.Object,org.apache.commons.validator.Field," + parameter);
+        resources.addValidatorAction(va);
+
+        final FormSet fs = new FormSet();
+        final Form form = new Form();
+        form.setName("testForm");
+        final Field field = new Field();
+        field.setIndexedListProperty("values");
+        field.setProperty("value");
+        field.setDepends("intKey");
+        form.addField(field);
+        fs.addForm(form);
+        resources.addFormSet(fs);
+        resources.process();
+
+        return resources;
+    }
+
+    /**
+     * Verify that validating the fields of a form in parallel gives the same results as validating them in turn.
+     */
+    @Test
+    public void testParallelValidation() throws ValidatorException {
+        final ValidatorResources resources = setupDependentResources("int");
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final ValueBean bean = new ValueBean();
+            final Validator validator = new Validator(resources, "testForm");
+            validator.setExecutor(executor);
+            validator.setParameter(Validator.BEAN_PARAM, bean);
+
+            ValidatorResult result = validator.validate().getValidatorResult("value");
+            assertFalse(result.isValid("required"));
+            assertFalse(result.containsAction("int"));
+
+            bean.setValue("123");
+            result = validator.validate().getValidatorResult("value");
+            assertTrue(result.isValid("required"));
+            assertTrue(result.isValid("int"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Verify that a field depending on an action that does not exist is reported when it is validated.
+     */
+    @Test
+    public void testMissingDependentAction() {
+        final ValidatorResources resources = setupDependentResources("required,missing");
+
+        final ValueBean bean = new ValueBean();
+        bean.setValue("abc");
+        final Validator validator = new Validator(resources, "testForm");
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+
+        assertThrows(ValidatorException.class, validator::validate);
+    }
+
+    /**
+     * Verify that a parameter value of the wrong type is reported as a <code>ValidatorException</code>.
+     */
+    @Test
+    public void testManualMismatchedParameter() {
+        final ValidatorResources resources = new ValidatorResources();
+
+        final ValidatorAction va = new ValidatorAction();
+        va.setName("capLetter");
+        va.setClassName("org.apache.commons.validator.ValidatorTest");
+        va.setMethod("isCapLetter");
+        va.setMethodParams("java.lang.Object,org.apache.commons.validator.Field,java.util.List");
+
+        final FormSet fs = new FormSet();
+        final Form form = new Form();
+        form.setName("testForm");
+        final Field field = new Field();
+        field.setProperty("letter");
+        field.setDepends("capLetter");
+        form.addField(field);
+        fs.addForm(form);
+
+        resources.addValidatorAction(va);
+        resources.addFormSet(fs);
+        resources.process();
+
+        final TestBean bean = new TestBean();
+        bean.setLetter("A");
+
+        final Validator validator = new Validator(resources, "testForm");
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        validator.setParameter("java.util.List", "not a list");
+
+        assertThrows(ValidatorException.class, validator::validate);
+    }
+
+    /**
+     * Verify that a {@code null} value for a primitive parameter is reported as a <code>ValidatorException</code>.
+     */
+    @Test
+    public void testManualNullPrimitiveParameter() throws ValidatorException {
+        final ValidatorResources resources = new ValidatorResources();
+
+        final ValidatorAction va = new ValidatorAction();
+        va.setName("shortLetter");
+        va.setClassName("org.apache.commons.validator.ValidatorTest");
+        va.setMethod("isShortLetter");
+        va.setMethodParams("java.lang.Object,org.apache.commons.validator.Field,int");
+
+        final FormSet fs = new FormSet();
+        final Form form = new Form();
+        form.setName("testForm");
+        final Field field = new Field();
+        field.setProperty("letter");
+        field.setDepends("shortLetter");
+        form.addField(field);
+        fs.addForm(form);
+
+        resources.addValidatorAction(va);
+        resources.addFormSet(fs);
+        resources.process();
+
+        final TestBean bean = new TestBean();
+        bean.setLetter("A");
+
+        final Validator validator = new Validator(resources, "testForm");
+        // the configured class names are loaded through this loader, which also knows the primitive type
+        validator.setClassLoader(new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Class<?> loadClass(final String name) throws ClassNotFoundException {
+                return "int".equals(name) ? Integer.TYPE : super.loadClass(name);
+            }
+        });
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        validator.setParameter("int", 1);
+        assertTrue(validator.validate().getValidatorResult("letter").isValid("shortLetter"));
+
+        validator.setParameter("int", null);
+        assertThrows(ValidatorException.class, validator::validate);
+    }
+
     /**
      * Verify that one value generates an error and the other passes. The validation method being tested returns an object ({@code null} will be considered
      * an error).
@@ -18,6 +18,7 @@ package org.apache.commons.validator.routines;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -27,6 +28,8 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.text.Format;
+import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
@@ -129,6 +132,24 @@ public abstract class AbstractCalendarValidatorTest {
         validator = null;
     }
 
+    /**
+     * Test the cached formats parse two-digit years relative to when they are used.
+     */
+    @Test
+    public void testFormatCacheTwoDigitYear() throws InterruptedException {
+        final SimpleDateFormat first = (SimpleDateFormat) validator.getFormat("M/d/yy", Locale.US);
+        Thread.sleep(10);
+        final Date before = new Date();
+        final SimpleDateFormat second = (SimpleDateFormat) validator.getFormat("M/d/yy", Locale.US);
+        final Date created = new SimpleDateFormat("M/d/yy", Locale.US).get2DigitYearStart();
+        assertTrue(second.get2DigitYearStart().after(first.get2DigitYearStart()), "moved on");
+        assertFalse(second.get2DigitYearStart().after(created), "not after a new format");
+        final Calendar start = Calendar.getInstance();
+        start.setTime(before);
+        start.add(Calendar.YEAR, -80);
+        assertFalse(second.get2DigitYearStart().before(start.getTime()), "not before a new format");
+    }
+
     /**
      * Test Invalid Dates with "locale" validation
      */
@@ -142,6 +163,29 @@ public abstract class AbstractCalendarValidatorTest {
         assertEquals("11/28/05", validator.format(test, Locale.US), "Format locale");
     }
 
+    /**
+     * Test the cached formats are copies which follow the default time zone.
+     */
+    @Test
+    public void testFormatCache() {
+        final Format first = validator.getFormat("yyyy-MM-dd HH:mm", Locale.US);
+        final Format second = validator.getFormat("yyyy-MM-dd HH:mm", Locale.US);
+        assertNotSame(first, second, "copy");
+        assertEquals(first, second, "same format");
+        final TimeZone defaultZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(GMT);
+            final Date gmt = createDate(GMT, 20051128, 120000);
+            assertEquals("2005-11-28 12:00", validator.format(gmt, "yyyy-MM-dd HH:mm"), "GMT default");
+            TimeZone.setDefault(EET);
+            assertEquals("2005-11-28 14:00", validator.format(gmt, "yyyy-MM-dd HH:mm"), "EET default");
+            assertEquals("2005-11-28 07:00", validator.format(gmt, "yyyy-MM-dd HH:mm", EST), "EST");
+            assertEquals("2005-11-28 14:00", validator.format(gmt, "yyyy-MM-dd HH:mm"), "EET default again");
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
     /**
      * Test Invalid Dates with "locale" validation
      */
@@ -18,7 +18,9 @@ package org.apache.commons.validator.routines;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -29,7 +31,11 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
+import java.text.Format;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -91,6 +97,42 @@ public abstract class AbstractNumberValidatorTest {
         assertEquals("12,34.50", strictValidator.format(number, "#,#0.00"), "Pattern #,#0.00");
     }
 
+    /**
+     * Test the cached formats are copies which follow the pattern, locale and default locale.
+     */
+    @Test
+    public void testFormatCache() {
+        final Format first = strictValidator.getFormat(testPattern, Locale.GERMAN);
+        final Format second = strictValidator.getFormat(testPattern, Locale.GERMAN);
+        assertNotSame(first, second, "copy");
+        assertEquals(first, second, "same format");
+        assertEquals(strictValidator.getFormat(null, Locale.US), strictValidator.getFormat("", Locale.US), "blank pattern");
+        assertNotEquals(strictValidator.getFormat(null, Locale.US), strictValidator.getFormat(null, Locale.GERMAN), "locale");
+        final Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.US);
+            assertEquals("1,234.5", strictValidator.format(new BigDecimal("1234.5")), "US default");
+            Locale.setDefault(Locale.GERMAN);
+            assertEquals("1.234,5", strictValidator.format(new BigDecimal("1234.5")), "DE default");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void testFormatCacheFull() {
+        final ConcurrentMap<AbstractFormatValidator.FormatKey, String> cache = new ConcurrentHashMap<>();
+        final AtomicInteger created = new AtomicInteger();
+        for (int i = 0; i < 300; i++) {
+            AbstractFormatValidator.getCached(cache, "#" + i, Locale.US, (pattern, locale) -> pattern + created.incrementAndGet());
+        }
+        assertEquals(300, created.get());
+        assertTrue(cache.size() <= 100, "bounded");
+        assertEquals("#299300", AbstractFormatValidator.getCached(cache, "#299", Locale.US, (pattern, locale) -> pattern + created.incrementAndGet()),
+                "pattern seen after the cache was full is cached");
+        assertEquals(300, created.get());
+    }
+
     /**
      * Test Format Type
      */
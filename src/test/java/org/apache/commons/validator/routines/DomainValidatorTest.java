@@ -35,9 +35,11 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -426,6 +428,46 @@ public class DomainValidatorTest {
         assertFalse(validator.isValidDomainSyntax("-"), "- (-) should fail");
     }
 
+    /**
+     * Checks that the domain syntax agrees with the regular expressions it replaced,
+     * for every string of up to 5 characters from a small alphabet and for labels
+     * around the maximum length.
+     */
+    @Test
+    public void testDomainSyntaxMatchesRegex() {
+        final String domainLabel = "\\p{Alnum}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+        final String topLabel = "\\p{Alpha}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+        final Pattern domainName = Pattern.compile("^(?:" + domainLabel + "\\.)+" + "(" + topLabel + ")\\.?$");
+        final Pattern hostname = Pattern.compile(domainLabel);
+
+        final List<String> corpus = new ArrayList<>();
+        final char[] alphabet = { 'a', 'Z', '7', '-', '.', '_' };
+        corpus.add("");
+        for (int i = 0; i < corpus.size(); i++) {
+            final String prefix = corpus.get(i);
+            if (prefix.length() < 5) {
+                for (final char ch : alphabet) {
+                    corpus.add(prefix + ch);
+                }
+            }
+        }
+        final String label62 = "a1234567890123456789012345678901234567890123456789012345678901";
+        for (final String label : new String[] { label62, label62 + "z", label62 + "-z", label62 + "9" }) {
+            corpus.add(label);
+            corpus.add(label + ".com");
+            corpus.add("www." + label);
+            corpus.add("www." + label + ".");
+        }
+        corpus.add("www.\u00e4.com");
+        corpus.add("a.b\nc");
+
+        for (final String domain : corpus) {
+            final String ascii = DomainValidator.unicodeToASCII(domain);
+            final boolean expected = domainName.matcher(ascii).matches() || hostname.matcher(ascii).matches();
+            assertEquals(expected, validator.isValidDomainSyntax(domain), domain);
+        }
+    }
+
     @Test
     public void testEnumIsPublic() {
         assertTrue(Modifier.isPublic(DomainValidator.ArrayType.class.getModifiers()));
@@ -457,6 +499,23 @@ public class DomainValidatorTest {
         assertTrue(validator.isValid("www.xn--bcher-kva.ch"), "b\u00fccher.ch in IDN should validate");
     }
 
+    @Test
+    public void testIDNCache() {
+        for (int i = 0; i < 2; i++) {
+            assertTrue(validator.isValid("www.b\u00fccher.ch"), "b\u00fccher.ch should validate");
+            assertTrue(validator.isValid("www.\u00e4.com"), "\u00e4.com should validate");
+            assertTrue(validator.isValid("www.\u00f6.com"), "\u00f6.com should validate");
+            assertFalse(validator.isValid("www.\u00fc.invalid"), "\u00fc.invalid shouldn't validate");
+        }
+        assertEquals("www.xn--bcher-kva.ch", DomainValidator.unicodeToASCII("www.b\u00fccher.ch"));
+        assertEquals("www.xn--bcher-kva.ch", DomainValidator.unicodeToASCII("www.b\u00fccher.ch"));
+        // more names than the cache holds
+        for (int i = 0; i < 1500; i++) {
+            assertEquals(IDN.toASCII(i + "\u00e4.ch"), DomainValidator.unicodeToASCII(i + "\u00e4.ch"));
+        }
+        assertEquals("www.xn--bcher-kva.ch", DomainValidator.unicodeToASCII("www.b\u00fccher.ch"));
+    }
+
     @Test
     public void testIDNJava6OrLater() {
         final String version = SystemProperties.getJavaVersion();
@@ -548,6 +607,31 @@ public class DomainValidatorTest {
         assertFalse(validator.isValidDomainSyntax("a.-9"), "a.-9 (- alphanum) should fail");
     }
 
+    @Test
+    public void testInstanceOverrides() {
+        final List<DomainValidator.Item> items = new ArrayList<>();
+        items.add(new DomainValidator.Item(DomainValidator.ArrayType.GENERIC_PLUS, "EXAMPLE", "invalid"));
+        items.add(new DomainValidator.Item(DomainValidator.ArrayType.GENERIC_MINUS, "invalid", "com"));
+        items.add(new DomainValidator.Item(DomainValidator.ArrayType.COUNTRY_CODE_PLUS, "example"));
+        items.add(new DomainValidator.Item(DomainValidator.ArrayType.LOCAL_PLUS, "lan"));
+        final DomainValidator overridden = DomainValidator.getInstance(false, items);
+
+        // a TLD may belong to several categories
+        assertTrue(overridden.isValidGenericTld(".Example"), ".Example should validate as gTLD");
+        assertTrue(overridden.isValidCountryCodeTld("EXAMPLE"), "EXAMPLE should validate as ccTLD");
+        assertTrue(overridden.isValid("www.example"), "www.example should validate");
+
+        // MINUS takes precedence over PLUS
+        assertFalse(overridden.isValidGenericTld("invalid"), "invalid shouldn't validate as gTLD");
+        assertFalse(overridden.isValidTld(".COM"), ".COM shouldn't validate as TLD");
+        assertTrue(overridden.isValidTld("org"), "org should validate as TLD");
+
+        // local TLDs need allowLocal
+        assertTrue(overridden.isValidLocalTld("lan"), "lan should validate as local TLD");
+        assertFalse(overridden.isValidTld("lan"), "lan shouldn't validate as TLD");
+        assertTrue(DomainValidator.getInstance(true, items).isValidTld(".LAN"), ".LAN should validate as TLD");
+    }
+
     @Test
     public void testTopLevelDomains() {
         // infrastructure TLDs
@@ -24,7 +24,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.lang3.SystemProperties;
@@ -419,6 +422,65 @@ public class EmailValidatorTest {
         assertFalse(validator.isValid("andy-noble@data-workshop.co-m"));
     }
 
+    /**
+     * Tests that the scanned addresses give the same results as the patterns,
+     * which a subclass uses.
+     */
+    @Test
+    public void testEmailScanMatchesPatterns() {
+        final String[] emails = { "jsmith@apache.org", "j.smith@apache.org", "jsmith.@apache.org", ".jsmith@apache.org", "j..smith@apache.org",
+                "o'hara@apache.org", "a+b=c?d{e}|f~g#h$i%j&k*l/m^n_o`p!q@apache.org", "joe@apache.org@apache.org", "joe@@apache.org", "@apache.org",
+                "joe@", "joe", "joe@apache.org ", "joe@apache .org", "joe@apache.org\n", "j\u00f6e@apache.org", "joe@b\u00fccher.ch",
+                "joe@[127.0.0.1]", "joe@[::1]", "joe@[127.0.0.1", "\"joe\"@apache.org", "jo\\e@apache.org", "jo e@apache.org", "jo,e@apache.org",
+                "joe@localhost", "joe@com", "joe@.com", "joe@apache..org", "joe@-apache.org", "joe@apache.invalid",
+                "abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyzabcdefghijkl@apache.org",
+                "abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyzabcdefghijklm@apache.org" };
+        for (int i = 0; i < 4; i++) {
+            final boolean allowLocal = (i & 1) != 0;
+            final boolean allowTld = (i & 2) != 0;
+            final EmailValidator patterns = new EmailValidator(allowLocal, allowTld) {
+                private static final long serialVersionUID = 1L;
+            };
+            for (final String email : emails) {
+                assertEquals(patterns.isValid(email), EmailValidator.getInstance(allowLocal, allowTld).isValid(email), email);
+            }
+        }
+    }
+
+    /**
+     * Tests validating a list of addresses.
+     */
+    @Test
+    public void testValidateBulk() throws IOException {
+        final List<String> emails = Arrays.asList("jsmith@apache.org", "jane@apache.org", "\"j smith\"@apache.org", "joe@[127.0.0.1]",
+                "jsmith", "jsmith@apache.org.", null, "j..smith@apache.org", "jo,e@apache.org", "joe@apache..org", "joe@[300.0.0.1]",
+                "joe@apache.invalid", "joe@localhost", "abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyzabcdefghijklm@apache.org",
+                "\"abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyzabcdefghijk\"@apache.org", "joe@apache.invalid");
+        final List<EmailValidator.Verdict> expected = Arrays.asList(EmailValidator.Verdict.VALID, EmailValidator.Verdict.VALID,
+                EmailValidator.Verdict.VALID, EmailValidator.Verdict.VALID, EmailValidator.Verdict.MALFORMED, EmailValidator.Verdict.MALFORMED,
+                EmailValidator.Verdict.MALFORMED, EmailValidator.Verdict.BAD_USER, EmailValidator.Verdict.BAD_USER, EmailValidator.Verdict.BAD_DOMAIN,
+                EmailValidator.Verdict.BAD_DOMAIN, EmailValidator.Verdict.BAD_TLD, EmailValidator.Verdict.BAD_TLD, EmailValidator.Verdict.TOO_LONG,
+                EmailValidator.Verdict.TOO_LONG, EmailValidator.Verdict.BAD_TLD);
+
+        final EmailValidator.BulkResult result = validator.validate(emails);
+        assertEquals(expected, result.getVerdicts());
+        assertEquals(emails.size(), result.size());
+        for (int i = 0; i < emails.size(); i++) {
+            assertEquals(validator.isValid(emails.get(i)), result.getVerdict(i) == EmailValidator.Verdict.VALID, emails.get(i));
+        }
+        assertEquals(4, result.getCount(EmailValidator.Verdict.VALID));
+        assertEquals(3, result.getCount(EmailValidator.Verdict.MALFORMED));
+        assertEquals(2, result.getCount(EmailValidator.Verdict.BAD_USER));
+        assertEquals(2, result.getCount(EmailValidator.Verdict.BAD_DOMAIN));
+        assertEquals(3, result.getCount(EmailValidator.Verdict.BAD_TLD));
+        assertEquals(2, result.getCount(EmailValidator.Verdict.TOO_LONG));
+        assertThrows(IndexOutOfBoundsException.class, () -> result.getVerdict(emails.size()));
+
+        final List<String> lines = emails.subList(0, 6);
+        assertEquals(expected.subList(0, 6), validator.validate(new StringReader(String.join("\n", lines))).getVerdicts());
+        assertEquals(expected.subList(0, 6), validator.validate(lines.stream()).getVerdicts());
+    }
+
     /**
      * Tests the e-mail validation with a dot at the end of the address.
      */
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for InetAddressRangeValidator.
+ */
+public class InetAddressRangeValidatorTest {
+
+    /**
+     * Test IPv4 ranges.
+     */
+    @Test
+    public void testInet4Ranges() {
+        final InetAddressRangeValidator validator = new InetAddressRangeValidator("10.0.0.0/8", "192.168.1.0/24", "172.16.5.4", "100.64.0.0/10");
+        assertTrue(validator.isValid("10.0.0.0"));
+        assertTrue(validator.isValid("10.255.255.255"));
+        assertFalse(validator.isValid("11.0.0.0"));
+        assertTrue(validator.isValid("192.168.1.77"));
+        assertFalse(validator.isValid("192.168.2.1"));
+        assertTrue(validator.isValid("172.16.5.4"));
+        assertFalse(validator.isValid("172.16.5.5"));
+        assertTrue(validator.isValid("100.127.255.255"));
+        assertFalse(validator.isValid("100.128.0.0"));
+        assertFalse(validator.isValid("10.0.0.256"), "invalid address");
+        assertFalse(validator.isValid("::ffff:10.0.0.1"), "IPv6 addresses are not in IPv4 ranges");
+        assertFalse(validator.isValid(null));
+
+        assertTrue(new InetAddressRangeValidator("0.0.0.0/0").isValid("203.0.113.9"));
+        assertTrue(new InetAddressRangeValidator("10.1.2.3/8").isValid("10.200.0.1"), "host bits are ignored");
+    }
+
+    /**
+     * Test IPv6 ranges.
+     */
+    @Test
+    public void testInet6Ranges() {
+        final InetAddressRangeValidator validator = new InetAddressRangeValidator("2001:db8::/32", "fe80::/10", "::1", "::ffff:0:0/96");
+        assertTrue(validator.isValid("2001:db8::1"));
+        assertTrue(validator.isValid("2001:DB8:FFFF:FFFF:FFFF:FFFF:FFFF:FFFF"));
+        assertFalse(validator.isValid("2001:db9::1"));
+        assertTrue(validator.isValid("febf::1%eth0"));
+        assertFalse(validator.isValid("fec0::1"));
+        assertTrue(validator.isValid("::1"));
+        assertFalse(validator.isValid("::2"));
+        assertTrue(validator.isValid("::ffff:192.0.2.1"));
+        assertFalse(validator.isValid("192.0.2.1"), "IPv4 addresses are not in IPv6 ranges");
+        assertTrue(validator.isValid("2001:db8:1::/48"), "the network is within a range");
+        assertFalse(validator.isValid("2001:db8::/16"), "the network is larger than the range");
+        assertFalse(validator.isValid("2001:db8::g"));
+    }
+
+    /**
+     * Test the lookup against a linear search over random ranges.
+     */
+    @Test
+    public void testRandomRanges() {
+        final Random random = new Random(42);
+        final int count = 200;
+        final long[] networks = new long[count];
+        final int[] bits = new int[count];
+        final String[] ranges = new String[count];
+        for (int i = 0; i < count; i++) {
+            bits[i] = 8 + random.nextInt(25);
+            networks[i] = random.nextInt() & 0xFFFFFFFFL;
+            ranges[i] = toString(networks[i]) + "/" + bits[i];
+        }
+        final InetAddressRangeValidator validator = new InetAddressRangeValidator(ranges);
+        for (int n = 0; n < 10000; n++) {
+            long address = random.nextInt() & 0xFFFFFFFFL;
+            if (n % 2 == 0) {
+                // an address near one of the ranges
+                final int i = random.nextInt(count);
+                address = networks[i] ^ (random.nextInt() & 0xFFFFFFFFL) >>> bits[i] - 1;
+            }
+            boolean expected = false;
+            for (int i = 0; i < count; i++) {
+                final int shift = 32 - bits[i];
+                expected |= address >>> shift == networks[i] >>> shift;
+            }
+            assertEquals(expected, validator.isValid(toString(address)), toString(address));
+        }
+    }
+
+    /**
+     * Test invalid ranges.
+     */
+    @Test
+    public void testInvalidRanges() {
+        assertThrows(IllegalArgumentException.class, () -> new InetAddressRangeValidator());
+        assertThrows(IllegalArgumentException.class, () -> new InetAddressRangeValidator((String[]) null));
+        assertThrows(IllegalArgumentException.class, () -> new InetAddressRangeValidator("10.0.0.0/8", null));
+        assertThrows(IllegalArgumentException.class, () -> new InetAddressRangeValidator(""));
+        assertThrows(IllegalArgumentException.class, () -> new InetAddressRangeValidator("10.0.0.0/33"));
+        assertThrows(IllegalArgumentException.class, () -> new InetAddressRangeValidator("10.0.0.0/"));
+        assertThrows(IllegalArgumentException.class, () -> new InetAddressRangeValidator("10.0.0.0/008"));
+        assertThrows(IllegalArgumentException.class, () -> new InetAddressRangeValidator("10.0.0/8"));
+        assertThrows(IllegalArgumentException.class, () -> new InetAddressRangeValidator("2001:db8::/129"));
+        assertThrows(IllegalArgumentException.class, () -> new InetAddressRangeValidator("fe80::%eth0/10"));
+        assertThrows(IllegalArgumentException.class, () -> new InetAddressRangeValidator("example.com"));
+    }
+
+    @Test
+    public void testToString() {
+        final String[] ranges = { "10.0.0.0/8", "fd00::/8" };
+        final InetAddressRangeValidator validator = new InetAddressRangeValidator(ranges);
+        assertEquals("InetAddressRangeValidator{10.0.0.0/8,fd00::/8}", validator.toString());
+        assertArrayEquals(ranges, validator.getRanges());
+    }
+
+    private static String toString(final long address) {
+        return (address >>> 24) + "." + (address >>> 16 & 0xFF) + "." + (address >>> 8 & 0xFF) + "." + (address & 0xFF);
+    }
+}
@@ -17,7 +17,10 @@
 
 package org.apache.commons.validator.routines;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -624,6 +627,45 @@ public class InetAddressValidatorTest {
         assertFalse(validator.isValidInet6Address("':10.0.0.1"), "IPV6 ':10.0.0.1 should be invalid");
     }
 
+    /**
+     * Test parsing IPv4 addresses into numbers.
+     */
+    @Test
+    public void testParseInet4Address() {
+        assertEquals(0L, validator.parseInet4Address("0.0.0.0"));
+        assertEquals(0x7F000001L, validator.parseInet4Address("127.0.0.1"));
+        assertEquals(0xC0A80A01L, validator.parseInet4Address("192.168.10.1"));
+        assertEquals(0xFFFFFFFFL, validator.parseInet4Address("255.255.255.255"));
+        assertEquals(-1L, validator.parseInet4Address("256.0.0.1"));
+        assertEquals(-1L, validator.parseInet4Address("01.2.3.4"));
+        assertEquals(-1L, validator.parseInet4Address("1.2.3"));
+        assertEquals(-1L, validator.parseInet4Address(null));
+    }
+
+    /**
+     * Test parsing IPv6 addresses into bytes.
+     */
+    @Test
+    public void testParseInet6Address() {
+        final byte[] address = new byte[16];
+        assertTrue(validator.parseInet6Address("2001:db8::ff00:42:8329", address));
+        assertArrayEquals(new byte[] { 0x20, 0x01, 0x0d, (byte) 0xb8, 0, 0, 0, 0, 0, 0, (byte) 0xff, 0, 0, 0x42, (byte) 0x83, 0x29 }, address);
+        assertTrue(validator.parseInet6Address("::", address));
+        assertArrayEquals(new byte[16], address);
+        assertTrue(validator.parseInet6Address("1::", address));
+        assertArrayEquals(new byte[] { 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 }, address);
+        assertTrue(validator.parseInet6Address("::FFFF:129.144.52.38", address));
+        assertArrayEquals(new byte[] { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xff, (byte) 0xff, (byte) 129, (byte) 144, 52, 38 }, address);
+        assertTrue(validator.parseInet6Address("fe80::1%eth0", address));
+        assertArrayEquals(new byte[] { (byte) 0xfe, (byte) 0x80, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1 }, address);
+        assertTrue(validator.parseInet6Address("1:2:3:4:5:6:7:8/64", address));
+        assertArrayEquals(new byte[] { 0, 1, 0, 2, 0, 3, 0, 4, 0, 5, 0, 6, 0, 7, 0, 8 }, address);
+        assertFalse(validator.parseInet6Address("1::2::3", address));
+        assertFalse(validator.parseInet6Address("1:2:3:4:5:6:7", address));
+        assertFalse(validator.parseInet6Address(null, address));
+        assertThrows(IllegalArgumentException.class, () -> validator.parseInet6Address("::1", new byte[4]));
+    }
+
     /**
      * Test reserved IPs.
      */
@@ -16,6 +16,9 @@
  */
 package org.apache.commons.validator.routines;
 
+import static org.apache.commons.validator.routines.AbstractNumberValidator.CURRENCY_FORMAT;
+import static org.apache.commons.validator.routines.AbstractNumberValidator.PERCENT_FORMAT;
+import static org.apache.commons.validator.routines.AbstractNumberValidator.STANDARD_FORMAT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -152,4 +155,49 @@ public class IntegerValidatorTest extends AbstractNumberValidatorTest {
         assertTrue(validator.isValid("-2147483648"), "-2147483648 is min integer");
         assertFalse(validator.isValid("-2147483649"), "-2147483649 < min integer");
     }
+
+    /**
+     * Test plain integers parsed without the format, and the values left for it.
+     */
+    @Test
+    public void testPlainIntegers() {
+        final IntegerValidator validator = IntegerValidator.getInstance();
+        assertEquals(-12345, validator.parsePlainLong(" -12,345 ", null, Locale.US));
+        assertEquals(12345, validator.parsePlainLong("12.345", null, Locale.GERMAN));
+        assertEquals(0, validator.parsePlainLong("-0", "#", Locale.US));
+        assertEquals(AbstractNumberValidator.NOT_PLAIN, validator.parsePlainLong("12,,345", null, Locale.US));
+        assertEquals(AbstractNumberValidator.NOT_PLAIN, validator.parsePlainLong("12,345", "#", Locale.US), "grouping not used");
+        assertEquals(AbstractNumberValidator.NOT_PLAIN, validator.parsePlainLong("12.5", null, Locale.US));
+        assertEquals(AbstractNumberValidator.NOT_PLAIN, validator.parsePlainLong("-9223372036854775808", null, Locale.US));
+        assertEquals(AbstractNumberValidator.NOT_PLAIN, validator.parsePlainLong("9223372036854775808", null, Locale.US));
+        assertEquals(AbstractNumberValidator.NOT_PLAIN, new IntegerValidator(true, PERCENT_FORMAT).parsePlainLong("12", null, Locale.US));
+
+        assertEquals(-12345, validator.validateInt("-12,345", -1));
+        assertEquals(12345, validator.validateInt("12.345", Locale.GERMAN, -1));
+        assertEquals(12345, validator.validateInt("1,23,45", "0,00,00", -1));
+        assertEquals(-1, validator.validateInt("2147483648", -1));
+        assertEquals(Integer.MIN_VALUE, validator.validateInt("-2147483648", Locale.US, -1));
+        assertEquals(-1, validator.validateInt("12,345.5", Locale.US, -1));
+        assertEquals(12, new IntegerValidator(false, STANDARD_FORMAT).validateInt("12,345.5", Locale.GERMAN, -1), "not strict");
+        assertEquals(-1, validator.validateInt(null, -1));
+        assertEquals(-1, validator.validateInt("", "#", Locale.US, -1));
+    }
+
+    /**
+     * Test validating and checking the range in one call.
+     */
+    @Test
+    public void testValidRange() {
+        final IntegerValidator validator = IntegerValidator.getInstance();
+        assertTrue(validator.isValid("10", 10, 20, Locale.US), "min");
+        assertTrue(validator.isValid("2,0", 10, 20, Locale.US), "max");
+        assertFalse(validator.isValid("9", 10, 20, Locale.US), "below");
+        assertFalse(validator.isValid("21", 10, 20, Locale.US), "above");
+        assertTrue(validator.isValid("-1.000", -1000, 0, Locale.GERMAN), "locale");
+        assertFalse(validator.isValid("4294967306", 0, 20, Locale.US), "outside int range");
+        assertTrue(validator.isValid("-2147483648", Integer.MIN_VALUE, 0, Locale.US));
+        assertFalse(validator.isValid("15.0", 10, 20, Locale.US), "not an integer");
+        assertTrue(new IntegerValidator(true, CURRENCY_FORMAT).isValid("$15", 10, 20, Locale.US), "left for the format");
+        assertFalse(validator.isValid(null, 10, 20, Locale.US));
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.FormatStyle;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test Case for LocalDateValidator.
+ */
+public class LocalDateValidatorTest {
+
+    private final LocalDateValidator validator = LocalDateValidator.getInstance();
+
+    /**
+     * Test the comparison methods.
+     */
+    @Test
+    public void testCompare() {
+        final LocalDate sameDay = LocalDate.of(2005, 11, 16);
+        assertEquals(0, validator.compareDates(sameDay, LocalDate.of(2005, 11, 16)), "date EQ");
+        assertEquals(-1, validator.compareDates(sameDay, LocalDate.of(2005, 11, 17)), "date LT");
+        assertEquals(1, validator.compareDates(sameDay, LocalDate.of(2005, 11, 15)), "date GT");
+
+        assertEquals(0, validator.compareWeeks(sameDay, LocalDate.of(2005, 11, 19), Locale.UK), "week EQ");
+        assertEquals(-1, validator.compareWeeks(sameDay, LocalDate.of(2005, 11, 21), Locale.UK), "week LT");
+        assertEquals(1, validator.compareWeeks(sameDay, LocalDate.of(2005, 11, 13), Locale.UK), "week GT");
+        assertEquals(0, validator.compareWeeks(LocalDate.of(2004, 12, 31), LocalDate.of(2005, 1, 2), Locale.UK), "week across years");
+        assertEquals(-1, validator.compareWeeks(LocalDate.of(2005, 1, 1), LocalDate.of(2005, 1, 2), Locale.US), "week starts on Sunday");
+
+        assertEquals(0, validator.compareMonths(sameDay, LocalDate.of(2005, 11, 1)), "month EQ");
+        assertEquals(-1, validator.compareMonths(sameDay, LocalDate.of(2005, 12, 1)), "month LT");
+        assertEquals(1, validator.compareMonths(sameDay, LocalDate.of(2004, 12, 1)), "month GT");
+
+        assertEquals(0, validator.compareQuarters(sameDay, LocalDate.of(2005, 10, 1)), "quarter EQ");
+        assertEquals(-1, validator.compareQuarters(sameDay, LocalDate.of(2006, 1, 1)), "quarter LT");
+        assertEquals(1, validator.compareQuarters(sameDay, LocalDate.of(2005, 9, 30)), "quarter GT");
+        assertEquals(0, validator.compareQuarters(sameDay, LocalDate.of(2006, 1, 31), 11), "quarter starting in November");
+        assertEquals(1, validator.compareQuarters(sameDay, LocalDate.of(2005, 10, 31), 11), "quarter starting in November GT");
+
+        assertEquals(0, validator.compareYears(sameDay, LocalDate.of(2005, 1, 1)), "year EQ");
+        assertEquals(-1, validator.compareYears(sameDay, LocalDate.of(2006, 1, 1)), "year LT");
+        assertEquals(1, validator.compareYears(sameDay, LocalDate.of(2004, 12, 31)), "year GT");
+    }
+
+    /**
+     * Test the formats are reused and give the same results.
+     */
+    @Test
+    public void testFormat() {
+        final LocalDate date = LocalDate.of(2005, 12, 31);
+        assertEquals("2005-12-31", validator.format(date, "yyyy-MM-dd"));
+        assertEquals(date, validator.validate(validator.format(date, Locale.GERMAN), Locale.GERMAN), "German round trip");
+        assertEquals(date, validator.validate(validator.format(date, Locale.US), Locale.US), "US round trip");
+        assertEquals(validator.format(date, Locale.US), validator.format(date, Locale.US), "cached formatter");
+        assertNull(validator.format(null, Locale.US));
+    }
+
+    /**
+     * Test styles and invalid arguments.
+     */
+    @Test
+    public void testProlepticYear() {
+        assertEquals(LocalDate.of(-1, 1, 1), validator.validate("-0001-01-01", "uuuu-MM-dd"));
+        assertEquals(LocalDate.of(0, 2, 29), validator.validate("0000-02-29", "uuuu-MM-dd"), "year zero is a leap year");
+        assertEquals(LocalDate.of(2024, 2, 29), validator.validate("y 2024-02-29", "'y' uuuu-MM-dd"), "quoted y");
+        assertNull(validator.validate("-0001-02-29", "uuuu-MM-dd"), "not a leap year");
+        assertNull(validator.validate("0000-01-01", "yyyy-MM-dd"), "no year zero of the era");
+    }
+
+    @Test
+    public void testStyles() {
+        final LocalDateValidator longValidator = new LocalDateValidator(FormatStyle.LONG);
+        final LocalDate date = LocalDate.of(2005, 12, 31);
+        assertEquals(date, longValidator.validate(longValidator.format(date, Locale.US), Locale.US));
+        assertNull(longValidator.validate(validator.format(date, Locale.US), Locale.US), "short date with long style");
+        assertThrows(IllegalArgumentException.class, () -> new LocalDateValidator(null));
+        assertThrows(IllegalArgumentException.class, () -> validator.validate("2005", "yyyy-MM-dd{"));
+    }
+
+    /**
+     * Test validation is strict.
+     */
+    @Test
+    public void testValidate() {
+        assertEquals(LocalDate.of(2024, 2, 29), validator.validate("2024-02-29", "yyyy-MM-dd"));
+        assertEquals(LocalDate.of(2024, 2, 29), validator.validate(" 2024-02-29 ", "uuuu-MM-dd", Locale.US), "trimmed");
+        assertEquals(LocalDate.of(2005, 12, 31), validator.validate("31.12.2005", "dd.MM.yyyy", Locale.GERMAN));
+        assertNull(validator.validate("2023-02-29", "yyyy-MM-dd"), "not a leap year");
+        assertNull(validator.validate("2024-04-31", "yyyy-MM-dd"), "no 31st");
+        assertNull(validator.validate("2024-2-29", "yyyy-MM-dd"), "width");
+        assertNull(validator.validate("2024-02-29x", "yyyy-MM-dd"), "trailing text");
+        assertNull(validator.validate("", "yyyy-MM-dd"));
+        assertNull(validator.validate(null, "yyyy-MM-dd"));
+        assertTrue(validator.isValid("12/31/05", Locale.US));
+        assertFalse(validator.isValid("12/32/05", Locale.US));
+        assertFalse(validator.isValid("31.12.05", Locale.US));
+    }
+}
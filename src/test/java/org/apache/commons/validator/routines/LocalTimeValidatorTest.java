@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test Case for LocalTimeValidator.
+ */
+public class LocalTimeValidatorTest {
+
+    private final LocalTimeValidator validator = LocalTimeValidator.getInstance();
+
+    /**
+     * Test the comparison methods.
+     */
+    @Test
+    public void testCompare() {
+        final LocalTime time = LocalTime.of(12, 30, 45, 500_000_000);
+        assertEquals(0, validator.compareTime(time, LocalTime.of(12, 30, 45, 500_000_000)), "time EQ");
+        assertEquals(-1, validator.compareTime(time, LocalTime.of(12, 30, 45, 500_000_001)), "time LT");
+        assertEquals(1, validator.compareTime(time, LocalTime.of(12, 30, 45)), "time GT");
+
+        assertEquals(0, validator.compareSeconds(time, LocalTime.of(12, 30, 45)), "seconds EQ");
+        assertEquals(-1, validator.compareSeconds(time, LocalTime.of(12, 30, 46)), "seconds LT");
+        assertEquals(1, validator.compareSeconds(time, LocalTime.of(12, 30, 44)), "seconds GT");
+
+        assertEquals(0, validator.compareMinutes(time, LocalTime.of(12, 30, 59)), "minutes EQ");
+        assertEquals(-1, validator.compareMinutes(time, LocalTime.of(12, 31)), "minutes LT");
+        assertEquals(1, validator.compareMinutes(time, LocalTime.of(12, 29, 59)), "minutes GT");
+
+        assertEquals(0, validator.compareHours(time, LocalTime.of(12, 59)), "hours EQ");
+        assertEquals(-1, validator.compareHours(time, LocalTime.of(13, 0)), "hours LT");
+        assertEquals(1, validator.compareHours(time, LocalTime.of(11, 59)), "hours GT");
+    }
+
+    /**
+     * Test validation is strict.
+     */
+    @Test
+    public void testValidate() {
+        assertEquals(LocalTime.of(23, 59, 59), validator.validate("23:59:59", "HH:mm:ss"));
+        assertEquals(LocalTime.of(22, 30), validator.validate("10:30 PM", "hh:mm a", Locale.US));
+        assertNull(validator.validate("24:00", "HH:mm"), "hour of day");
+        assertNull(validator.validate("23:60", "HH:mm"), "minute");
+        assertNull(validator.validate("10:30 PM", "HH:mm a", Locale.US), "AM/PM conflicts with the hour of day");
+        assertNull(validator.validate("23:59x", "HH:mm"), "trailing text");
+        final LocalTime time = LocalTime.of(22, 30);
+        assertEquals(time, validator.validate(validator.format(time, Locale.US), Locale.US), "US round trip");
+        assertEquals(time, validator.validate(validator.format(time, Locale.GERMAN), Locale.GERMAN), "German round trip");
+        assertTrue(validator.isValid("23:59", "HH:mm"));
+        assertFalse(validator.isValid(null));
+    }
+}
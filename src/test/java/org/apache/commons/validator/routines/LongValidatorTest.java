@@ -147,4 +147,35 @@ public class LongValidatorTest extends AbstractNumberValidatorTest {
         assertFalse(LongValidator.getInstance().isValid(xxxx, pattern), "isValid(B) pattern");
         assertFalse(LongValidator.getInstance().isValid(patternVal, pattern, Locale.GERMAN), "isValid(B) both");
     }
+
+    /**
+     * Test the primitive validation.
+     */
+    @Test
+    public void testValidateLong() {
+        final LongValidator validator = LongValidator.getInstance();
+        assertEquals(-12345L, validator.validateLong("-12,345", -1L));
+        assertEquals(12345L, validator.validateLong("12.345", Locale.GERMAN, -1L));
+        assertEquals(12345L, validator.validateLong("1,23,45", "0,00,00", -1L));
+        assertEquals(Long.MAX_VALUE, validator.validateLong("9223372036854775807", -1L));
+        assertEquals(Long.MIN_VALUE, validator.validateLong("-9223372036854775808", -1L), "left for the format");
+        assertEquals(-1L, validator.validateLong("9223372036854775808", -1L));
+        assertEquals(-1L, validator.validateLong("XXXX", Locale.US, -1L));
+        assertEquals(-1L, validator.validateLong(null, -1L));
+    }
+
+    /**
+     * Test validating and checking the range in one call.
+     */
+    @Test
+    public void testValidRange() {
+        final LongValidator validator = LongValidator.getInstance();
+        assertTrue(validator.isValid("10", 10L, 20L, Locale.US), "min");
+        assertTrue(validator.isValid("20", 10L, 20L, Locale.US), "max");
+        assertFalse(validator.isValid("9", 10L, 20L, Locale.US), "below");
+        assertFalse(validator.isValid("21", 10L, 20L, Locale.US), "above");
+        assertTrue(validator.isValid("-9223372036854775808", Long.MIN_VALUE, 0L, Locale.US));
+        assertFalse(validator.isValid("9223372036854775808", 0L, Long.MAX_VALUE, Locale.US));
+        assertFalse(validator.isValid("XXXX", 0L, 20L, Locale.US));
+    }
 }
@@ -20,9 +20,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.Duration;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -279,6 +281,53 @@ public class RegexValidatorTest {
         checkArray("match one", new String[] { "ABC" }, new RegexValidator("^([A-Z]*)$").match("ABC"));
     }
 
+    /**
+     * Test the detection of nested unbounded quantifiers.
+     */
+    @Test
+    public void testNestedQuantifiers() {
+        assertTrue(RegexValidator.hasNestedQuantifiers("(a+)+"));
+        assertTrue(RegexValidator.hasNestedQuantifiers("^(a*b?)*$"));
+        assertTrue(RegexValidator.hasNestedQuantifiers("((ab)*c)*"));
+        assertTrue(RegexValidator.hasNestedQuantifiers("(?:[a-z]+\\.){2,}"));
+        assertTrue(RegexValidator.hasNestedQuantifiers("(x(a+)y)*?"));
+        assertFalse(RegexValidator.hasNestedQuantifiers(REGEX));
+        assertFalse(RegexValidator.hasNestedQuantifiers("(a|b)+"));
+        assertFalse(RegexValidator.hasNestedQuantifiers("(a+){3}"));
+        assertFalse(RegexValidator.hasNestedQuantifiers("(a+)++"), "possessive");
+        assertFalse(RegexValidator.hasNestedQuantifiers("(?>a+)+"), "atomic group");
+        assertFalse(RegexValidator.hasNestedQuantifiers("[(a+)]+"), "character class");
+        assertFalse(RegexValidator.hasNestedQuantifiers("\\(a+\\)+"), "escaped parentheses");
+        assertFalse(RegexValidator.hasNestedQuantifiers("\\Q(a+)\\E+"), "quoted");
+        assertFalse(RegexValidator.hasNestedQuantifiers("\\p{Alpha}+\\d{1,3}"));
+    }
+
+    /**
+     * Test validation with a timeout.
+     */
+    @Test
+    public void testTimeout() {
+        final RegexValidator validator = new RegexValidator(new String[] { "(.*a){12}", COMPONENT_1 + COMPONENT_2 + COMPONENT_3 }, true,
+                Duration.ofMillis(100));
+        assertTrue(validator.isValid("aaaaaaaaaaaa"));
+        assertEquals("abcDEF123", validator.validate("abcDEF123"));
+        assertEquals("DEF", validator.match("abcDEF123")[1]);
+
+        // (.*a){12} backtracks through about n^12 paths to reject this value
+        final String value = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!";
+        final long start = System.nanoTime();
+        assertFalse(validator.isValid(value));
+        assertThrows(RegexValidator.MatchTimeoutException.class, () -> validator.validate(value));
+        assertThrows(RegexValidator.MatchTimeoutException.class, () -> validator.match(value));
+        assertNull(validator.validate("abc"), "no match");
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(10).toNanos(), "timed out");
+
+        assertThrows(IllegalArgumentException.class, () -> new RegexValidator(new String[] { "(a+)+b" }, true, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new RegexValidator(new String[] { "a" }, true, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new RegexValidator(new String[] { "a" }, true, null));
+        assertThrows(IllegalArgumentException.class, () -> new RegexValidator((String[]) null, true, Duration.ofSeconds(1)));
+    }
+
     /**
      * Test toString() method
      */
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.FormatStyle;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test Case for ZonedDateTimeValidator.
+ */
+public class ZonedDateTimeValidatorTest {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+    private static final ZoneId TOKYO = ZoneId.of("Asia/Tokyo");
+
+    private final ZonedDateTimeValidator validator = ZonedDateTimeValidator.getInstance();
+
+    /**
+     * Test the comparison methods use the date in each value's zone.
+     */
+    @Test
+    public void testCompare() {
+        final ZonedDateTime paris = ZonedDateTime.of(2005, 12, 31, 20, 0, 0, 0, PARIS);
+        final ZonedDateTime tokyo = paris.withZoneSameInstant(TOKYO);
+        assertEquals(-1, validator.compareDates(paris, tokyo), "next day in Tokyo");
+        assertEquals(-1, validator.compareMonths(paris, tokyo), "next month in Tokyo");
+        assertEquals(-1, validator.compareQuarters(paris, tokyo), "next quarter in Tokyo");
+        assertEquals(0, validator.compareQuarters(paris, tokyo, 2), "same quarter starting in February");
+        assertEquals(-1, validator.compareYears(paris, tokyo), "next year in Tokyo");
+        assertEquals(0, validator.compareWeeks(paris, tokyo, Locale.UK), "same week");
+        assertEquals(0, validator.compareDates(paris, paris.withHour(1)), "time ignored");
+    }
+
+    /**
+     * Test the zone of the values.
+     */
+    @Test
+    public void testZones() {
+        final String pattern = "yyyy-MM-dd HH:mm";
+        assertEquals(ZonedDateTime.of(2024, 3, 1, 10, 0, 0, 0, PARIS), validator.validate("2024-03-01 10:00", pattern, PARIS));
+        assertEquals(ZonedDateTime.of(2024, 3, 1, 10, 0, 0, 0, ZoneId.systemDefault()), validator.validate("2024-03-01 10:00", pattern));
+        assertEquals(ZonedDateTime.of(2024, 3, 1, 10, 0, 0, 0, TOKYO),
+                validator.validate("2024-03-01 10:00 Asia/Tokyo", pattern + " VV", PARIS), "parsed zone");
+        assertEquals(ZonedDateTime.of(2024, 3, 1, 6, 0, 0, 0, PARIS),
+                validator.validate("2024-03-01 10:00 +05:00", pattern + " XXX", Locale.US, PARIS), "parsed offset");
+        assertNull(validator.validate("2024-03-31 02:30", pattern, PARIS), "daylight saving gap");
+        assertEquals(ZonedDateTime.of(2024, 3, 31, 1, 30, 0, 0, PARIS), validator.validate("2024-03-31 01:30", pattern, PARIS));
+        assertNull(validator.validate("2024-03-01", "yyyy-MM-dd", PARIS), "no time");
+    }
+
+    /**
+     * Test validation with the default formats.
+     */
+    @Test
+    public void testValidate() {
+        final ZonedDateTime value = ZonedDateTime.of(2005, 12, 31, 22, 30, 0, 0, PARIS);
+        assertEquals(value, validator.validate(validator.format(value, Locale.US), Locale.US, PARIS), "US round trip");
+        assertEquals(value, validator.validate(validator.format(value, Locale.GERMAN), Locale.GERMAN, PARIS), "German round trip");
+        assertTrue(validator.isValid(validator.format(value, Locale.US), Locale.US));
+        assertFalse(validator.isValid("2005-12-31 22:30", Locale.US));
+        assertNull(validator.validate("2005-02-29 22:30", "yyyy-MM-dd HH:mm", PARIS), "not a leap year");
+        assertThrows(IllegalArgumentException.class, () -> new ZonedDateTimeValidator(FormatStyle.SHORT, null));
+    }
+}